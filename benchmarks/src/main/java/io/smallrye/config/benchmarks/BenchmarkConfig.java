@@ -0,0 +1,85 @@
+package io.smallrye.config.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Generates the configuration shapes used by the benchmarks. Names follow the pattern {@code app.g<group>.k<key>},
+ * with 10 keys per group, so {@code app.g<group>} can be used as a Map prefix.
+ */
+final class BenchmarkConfig {
+    static final int KEYS_PER_GROUP = 10;
+
+    private BenchmarkConfig() {
+        throw new UnsupportedOperationException();
+    }
+
+    static String name(int key) {
+        return "app.g" + key / KEYS_PER_GROUP + ".k" + key;
+    }
+
+    static String group(int key) {
+        return "app.g" + key / KEYS_PER_GROUP;
+    }
+
+    static String envName(String name) {
+        return name.replace('.', '_').toUpperCase(Locale.ROOT);
+    }
+
+    static String[] names(int keys) {
+        String[] names = new String[keys];
+        for (int i = 0; i < keys; i++) {
+            names[i] = name(i);
+        }
+        return names;
+    }
+
+    /**
+     * Splits {@code keys} properties into {@code sources} maps. Every source holds a disjoint slice of the keys, so a
+     * lookup has to probe several sources before it finds the owner.
+     */
+    static List<Map<String, String>> properties(int keys, int sources) {
+        List<Map<String, String>> maps = new ArrayList<>(sources);
+        for (int i = 0; i < sources; i++) {
+            maps.add(new HashMap<>());
+        }
+        for (int i = 0; i < keys; i++) {
+            maps.get(i % sources).put(name(i), "value" + i);
+        }
+        return maps;
+    }
+
+    static Map<String, String> properties(int keys) {
+        return properties(keys, 1).get(0);
+    }
+
+    static Map<String, String> envProperties(int keys) {
+        Map<String, String> properties = new HashMap<>();
+        for (int i = 0; i < keys; i++) {
+            properties.put(envName(name(i)), "value" + i);
+        }
+        return properties;
+    }
+
+    static String yaml(int keys) {
+        StringBuilder yaml = new StringBuilder("app:\n");
+        for (int i = 0; i < keys; i++) {
+            if (i % KEYS_PER_GROUP == 0) {
+                yaml.append("  g").append(i / KEYS_PER_GROUP).append(":\n");
+            }
+            yaml.append("    k").append(i).append(": value").append(i).append("\n");
+        }
+        return yaml.toString();
+    }
+
+    static String hocon(int keys) {
+        StringBuilder hocon = new StringBuilder();
+        for (int i = 0; i < keys; i++) {
+            hocon.append(name(i)).append(" = \"value").append(i).append("\"\n");
+        }
+        return hocon.toString();
+    }
+}
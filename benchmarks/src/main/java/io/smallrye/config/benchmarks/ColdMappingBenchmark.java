@@ -0,0 +1,142 @@
+package io.smallrye.config.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.config.ConfigMappingPrecompiler;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * First mapping of the {@link ConfigMappingBenchmark.Server} tree. Each invocation defines the mapping interfaces in a
+ * new class loader, so the mapping classes are never cached. With {@code precompiled}, the class loader also sees the
+ * classes generated by {@link ConfigMappingPrecompiler}, like a jar built with the precompiled mapping classes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ColdMappingBenchmark {
+    @Param({ "false", "true" })
+    boolean precompiled;
+
+    Map<String, String> properties;
+    Map<String, byte[]> mappings;
+    URL classes;
+
+    @Setup
+    public void setup() throws IOException {
+        properties = new HashMap<>();
+        properties.put("server.host", "localhost");
+        properties.put("server.port", "8080");
+        properties.put("server.tls.enabled", "true");
+        properties.put("server.tls.protocols", "TLSv1.2,TLSv1.3");
+        properties.put("server.endpoints.e0.path", "/e0");
+        properties.put("server.endpoints.e0.limits.rate", "0");
+        properties.put("server.endpoints.e0.limits.window.size", "1000");
+        properties.put("server.aliases[0].name", "alias0");
+
+        List<Class<?>> types = new ArrayList<>();
+        types.add(ConfigMappingBenchmark.Server.class);
+        for (Class<?> nested : ConfigMappingBenchmark.Server.class.getDeclaredClasses()) {
+            types.add(nested);
+        }
+
+        mappings = new HashMap<>();
+        for (Class<?> type : types) {
+            try (InputStream in = ColdMappingBenchmark.class.getClassLoader()
+                    .getResourceAsStream(type.getName().replace('.', '/') + ".class")) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                byte[] buffer = new byte[4096];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+                mappings.put(type.getName(), out.toByteArray());
+            }
+        }
+
+        Path classes = Files.createTempDirectory("precompiled");
+        if (precompiled) {
+            ConfigMappingPrecompiler.precompile(types, classes);
+        }
+        this.classes = classes.toUri().toURL();
+    }
+
+    @Benchmark
+    public Object coldMapping() throws Exception {
+        try (MappingClassLoader classLoader = new MappingClassLoader(classes, mappings)) {
+            Class<?> server = classLoader.loadClass(ConfigMappingBenchmark.Server.class.getName());
+            SmallRyeConfig config = new SmallRyeConfigBuilder()
+                    .withSources(new PropertiesConfigSource(properties, "mapping", 100))
+                    .withMapping(server, "server")
+                    .build();
+            return config.getConfigMapping(server, "server");
+        }
+    }
+
+    static class MappingClassLoader extends URLClassLoader {
+        private final Map<String, byte[]> mappings;
+
+        MappingClassLoader(final URL classes, final Map<String, byte[]> mappings) {
+            super(new URL[] { classes }, MappingClassLoader.class.getClassLoader());
+            this.mappings = mappings;
+        }
+
+        @Override
+        protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> klass = findLoadedClass(name);
+                if (klass != null) {
+                    return klass;
+                }
+
+                byte[] bytes = mappings.get(name);
+                if (bytes != null) {
+                    return defineClass(name, bytes, 0, bytes.length);
+                }
+
+                try {
+                    return findClass(name);
+                } catch (ClassNotFoundException e) {
+                    return super.loadClass(name, resolve);
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                super.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package io.smallrye.config.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.config.ConfigValue;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * Lookups through {@link SmallRyeConfig} with the default interceptor chain, varying the number of keys, the number
+ * of sources the keys are spread over and the number of active profiles.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigLookupBenchmark {
+    @Param({ "100", "1000", "10000" })
+    int keys;
+    @Param({ "1", "5", "10" })
+    int sources;
+    @Param({ "0", "1", "3" })
+    int profiles;
+
+    SmallRyeConfig config;
+    String[] names;
+    String[] groups;
+    int index;
+
+    @Setup
+    public void setup() {
+        List<Map<String, String>> maps = BenchmarkConfig.properties(keys, sources);
+        List<String> activeProfiles = new ArrayList<>();
+        for (int p = 0; p < profiles; p++) {
+            String profile = "p" + p;
+            activeProfiles.add(profile);
+            // a tenth of the keys get a profiled variant for each profile
+            for (int i = 0; i < keys; i += 10) {
+                maps.get(i % sources).put("%" + profile + "." + BenchmarkConfig.name(i), profile + i);
+            }
+        }
+
+        maps.get(0).put("app.port", "8080");
+
+        SmallRyeConfigBuilder builder = new SmallRyeConfigBuilder().addDefaultInterceptors();
+        for (int s = 0; s < sources; s++) {
+            builder.withSources(new PropertiesConfigSource(maps.get(s), "source" + s, 100 + s));
+        }
+        if (!activeProfiles.isEmpty()) {
+            builder.withProfiles(activeProfiles);
+        }
+        config = builder.build();
+
+        names = BenchmarkConfig.names(keys);
+        groups = new String[keys / BenchmarkConfig.KEYS_PER_GROUP];
+        for (int i = 0; i < groups.length; i++) {
+            groups[i] = BenchmarkConfig.group(i * BenchmarkConfig.KEYS_PER_GROUP);
+        }
+    }
+
+    private String nextName() {
+        return names[index++ % names.length];
+    }
+
+    @Benchmark
+    public String getValue() {
+        return config.getValue(nextName(), String.class);
+    }
+
+    @Benchmark
+    public ConfigValue getConfigValue() {
+        return config.getConfigValue(nextName());
+    }
+
+    @Benchmark
+    public String getRawValue() {
+        return config.getRawValue(nextName());
+    }
+
+    @Benchmark
+    public String getRawValueMissing() {
+        return config.getRawValue("missing." + nextName());
+    }
+
+    @Benchmark
+    public Integer getValueConverted() {
+        return config.getValue("app.port", Integer.class);
+    }
+
+    @Benchmark
+    public Iterable<String> getPropertyNames() {
+        return config.getPropertyNames();
+    }
+
+    @Benchmark
+    public Map<String, String> getValuesAsMap() {
+        return config.getValues(groups[index++ % groups.length], String.class, String.class);
+    }
+}
@@ -0,0 +1,130 @@
+package io.smallrye.config.benchmarks;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Mapping of a deep {@link ConfigMapping} tree. The {@code build} benchmarks include the
+ * {@link SmallRyeConfigBuilder#build()} cost, so the mapping overhead is the difference between
+ * {@link #buildWithMapping()} and {@link #buildWithoutMapping()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigMappingBenchmark {
+    @Param({ "10", "100", "1000" })
+    int endpoints;
+
+    Map<String, String> properties;
+    SmallRyeConfig config;
+
+    @Setup
+    public void setup() {
+        properties = new HashMap<>();
+        properties.put("server.host", "localhost");
+        properties.put("server.port", "8080");
+        properties.put("server.tls.enabled", "true");
+        properties.put("server.tls.protocols", "TLSv1.2,TLSv1.3");
+        for (int i = 0; i < endpoints; i++) {
+            String endpoint = "server.endpoints.e" + i;
+            properties.put(endpoint + ".path", "/e" + i);
+            properties.put(endpoint + ".headers.accept", "application/json");
+            properties.put(endpoint + ".limits.rate", String.valueOf(i));
+            properties.put(endpoint + ".limits.window.size", "1000");
+            properties.put("server.aliases[" + i + "].name", "alias" + i);
+        }
+        config = buildWithMapping();
+    }
+
+    @Benchmark
+    public SmallRyeConfig buildWithoutMapping() {
+        return new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(new PropertiesConfigSource(properties, "mapping", 100))
+                .build();
+    }
+
+    @Benchmark
+    public SmallRyeConfig buildWithMapping() {
+        return new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(new PropertiesConfigSource(properties, "mapping", 100))
+                .withMapping(Server.class)
+                .build();
+    }
+
+    @Benchmark
+    public Server getConfigMapping() {
+        return config.getConfigMapping(Server.class);
+    }
+
+    @ConfigMapping(prefix = "server")
+    public interface Server {
+        String host();
+
+        int port();
+
+        Tls tls();
+
+        Map<String, Endpoint> endpoints();
+
+        List<Alias> aliases();
+
+        interface Tls {
+            boolean enabled();
+
+            List<String> protocols();
+        }
+
+        interface Endpoint {
+            String path();
+
+            Optional<String> method();
+
+            Map<String, String> headers();
+
+            Limits limits();
+        }
+
+        interface Limits {
+            int rate();
+
+            @WithDefault("10")
+            int burst();
+
+            Window window();
+        }
+
+        interface Window {
+            long size();
+        }
+
+        interface Alias {
+            String name();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package io.smallrye.config.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.config.EnvConfigSource;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.source.hocon.HoconConfigSource;
+import io.smallrye.config.source.yaml.YamlConfigSource;
+
+/**
+ * Loading and lookups of individual sources, without the {@link io.smallrye.config.SmallRyeConfig} chain.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigSourceBenchmark {
+    @Param({ "properties", "env", "yaml", "hocon" })
+    String type;
+    @Param({ "100", "10000" })
+    int keys;
+
+    ConfigSource source;
+    String[] names;
+    String yaml;
+    Path hocon;
+    int index;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        yaml = BenchmarkConfig.yaml(keys);
+        hocon = Files.createTempFile("benchmark", ".conf");
+        Files.write(hocon, BenchmarkConfig.hocon(keys).getBytes(StandardCharsets.UTF_8));
+        source = load();
+        names = BenchmarkConfig.names(keys);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(hocon);
+    }
+
+    @Benchmark
+    public ConfigSource load() {
+        switch (type) {
+            case "properties":
+                return new PropertiesConfigSource(BenchmarkConfig.properties(keys), "properties", 100);
+            case "env":
+                return new EnvConfigSource(BenchmarkConfig.envProperties(keys), 300);
+            case "yaml":
+                return new YamlConfigSource("yaml", yaml, 110);
+            case "hocon":
+                try {
+                    URL url = hocon.toUri().toURL();
+                    return new HoconConfigSource(url, 105);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            default:
+                throw new IllegalArgumentException(type);
+        }
+    }
+
+    @Benchmark
+    public String getValue() {
+        return source.getValue(names[index++ % names.length]);
+    }
+
+    @Benchmark
+    public String getValueMissing() {
+        return source.getValue("missing." + names[index++ % names.length]);
+    }
+
+    @Benchmark
+    public Set<String> getPropertyNames() {
+        return source.getPropertyNames();
+    }
+}
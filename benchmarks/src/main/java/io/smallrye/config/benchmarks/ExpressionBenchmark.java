@@ -0,0 +1,71 @@
+package io.smallrye.config.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * Expression expansion with increasing nesting: {@code expr.<n>} expands to {@code ${expr.<n-1>}}, down to a plain
+ * value at {@code expr.0}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpressionBenchmark {
+    @Param({ "0", "1", "4", "8" })
+    int nesting;
+
+    SmallRyeConfig config;
+    String name;
+
+    @Setup
+    public void setup() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("expr.0", "value");
+        for (int i = 1; i <= nesting; i++) {
+            properties.put("expr." + i, "${expr." + (i - 1) + "}-" + i);
+        }
+        properties.put("expr.default", "${missing:default}");
+        properties.put("expr.escaped", "\\${expr.0}");
+
+        config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(new PropertiesConfigSource(properties, "source", 100))
+                .build();
+        name = "expr." + nesting;
+    }
+
+    @Benchmark
+    public String expand() {
+        return config.getRawValue(name);
+    }
+
+    @Benchmark
+    public String expandDefault() {
+        return config.getRawValue("expr.default");
+    }
+
+    @Benchmark
+    public String escaped() {
+        return config.getRawValue("expr.escaped");
+    }
+}
@@ -0,0 +1,97 @@
+package io.smallrye.config.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.config.spi.Converter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.config.Converters;
+
+/**
+ * Conversion with the implicit converters, resolved from a static {@code of} method, an enum {@code valueOf} method
+ * or a {@code String} constructor, compared with a hand-written converter of the same type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ImplicitConverterBenchmark {
+    @Param({ "of", "valueOf", "constructor" })
+    String method;
+
+    Converter<?> implicit;
+    Converter<?> handWritten;
+    String value;
+
+    @Setup
+    public void setup() {
+        switch (method) {
+            case "of":
+                implicit = Converters.getImplicitConverter(Port.class);
+                handWritten = (Converter<Port>) Port::of;
+                value = "8080";
+                break;
+            case "valueOf":
+                implicit = Converters.getImplicitConverter(Level.class);
+                handWritten = (Converter<Level>) Level::valueOf;
+                value = "WARN";
+                break;
+            case "constructor":
+                implicit = Converters.getImplicitConverter(Host.class);
+                handWritten = (Converter<Host>) Host::new;
+                value = "localhost";
+                break;
+            default:
+                throw new IllegalArgumentException(method);
+        }
+    }
+
+    @Benchmark
+    public Object implicit() {
+        return implicit.convert(value);
+    }
+
+    @Benchmark
+    public Object handWritten() {
+        return handWritten.convert(value);
+    }
+
+    public static final class Port {
+        final int port;
+
+        private Port(final int port) {
+            this.port = port;
+        }
+
+        public static Port of(String value) {
+            return new Port(Integer.parseInt(value));
+        }
+    }
+
+    public enum Level {
+        DEBUG,
+        INFO,
+        WARN,
+        ERROR
+    }
+
+    public static final class Host {
+        final String host;
+
+        public Host(final String host) {
+            this.host = host;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package io.smallrye.config.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.config.ConfigSourceInterceptor;
+import io.smallrye.config.ConfigSourceInterceptorContext;
+import io.smallrye.config.ConfigValue;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * Cost of the interceptor chain: the default interceptors plus a number of pass-through interceptors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterceptorChainBenchmark {
+    @Param({ "0", "5", "20" })
+    int depth;
+    @Param({ "true", "false" })
+    boolean defaultInterceptors;
+
+    SmallRyeConfig config;
+    String[] names;
+    int index;
+
+    @Setup
+    public void setup() {
+        SmallRyeConfigBuilder builder = new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(BenchmarkConfig.properties(1000), "source", 100));
+        if (defaultInterceptors) {
+            builder.addDefaultInterceptors();
+        }
+        for (int i = 0; i < depth; i++) {
+            builder.withInterceptors(new PassThroughInterceptor());
+        }
+        config = builder.build();
+        names = BenchmarkConfig.names(1000);
+    }
+
+    @Benchmark
+    public ConfigValue getConfigValue() {
+        return config.getConfigValue(names[index++ % names.length]);
+    }
+
+    @Benchmark
+    public ConfigValue getConfigValueMissing() {
+        return config.getConfigValue("missing");
+    }
+
+    static class PassThroughInterceptor implements ConfigSourceInterceptor {
+        private static final long serialVersionUID = -1566262180327047476L;
+
+        @Override
+        public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name) {
+            return context.proceed(name);
+        }
+    }
+}
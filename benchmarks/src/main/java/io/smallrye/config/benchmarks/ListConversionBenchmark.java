@@ -0,0 +1,79 @@
+package io.smallrye.config.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.config.spi.Converter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.config.Converters;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * Conversion of a comma-separated value with many items, like a host list or an allowlist, into a {@code List}, an
+ * array of references and a primitive array.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListConversionBenchmark {
+    @Param({ "10", "1000" })
+    int items;
+
+    String hosts;
+    String ports;
+    Converter<List<String>> list;
+    Converter<String[]> array;
+    Converter<int[]> primitiveArray;
+
+    @Setup
+    public void setup() {
+        StringBuilder hosts = new StringBuilder();
+        StringBuilder ports = new StringBuilder();
+        for (int i = 0; i < items; i++) {
+            if (i > 0) {
+                hosts.append(',');
+                ports.append(',');
+            }
+            hosts.append("host").append(i).append(".example.com");
+            ports.append(8000 + i);
+        }
+        this.hosts = hosts.toString();
+        this.ports = ports.toString();
+
+        SmallRyeConfig config = new SmallRyeConfigBuilder().build();
+        list = Converters.newCollectionConverter(config.requireConverter(String.class), ArrayList::new);
+        array = config.requireConverter(String[].class);
+        primitiveArray = config.requireConverter(int[].class);
+    }
+
+    @Benchmark
+    public List<String> list() {
+        return list.convert(hosts);
+    }
+
+    @Benchmark
+    public String[] array() {
+        return array.convert(hosts);
+    }
+
+    @Benchmark
+    public int[] primitiveArray() {
+        return primitiveArray.convert(ports);
+    }
+}
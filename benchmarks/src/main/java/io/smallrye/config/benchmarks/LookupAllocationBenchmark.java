@@ -0,0 +1,96 @@
+package io.smallrye.config.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.config.ConfigValue;
+import io.smallrye.config.ConfigValuePropertiesConfigSource;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * Allocations of a single lookup hit, with the value found in a plain source or in a source that holds
+ * {@link ConfigValue} instances, and in a lower priority source so its position has to be recorded. Check
+ * <code>gc.alloc.rate.norm</code>: {@link SmallRyeConfig#getRawValue(String)} of a value that does not need expansion
+ * or a profile should not allocate, while {@link SmallRyeConfig#getConfigValue(String)} only allocates the
+ * {@link ConfigValue} it returns, with its position. The property names are fixed, so the profile interceptor knows
+ * from its index that a name has no profiled value.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LookupAllocationBenchmark {
+    @Param({ "properties", "configValue" })
+    String type;
+    @Param({ "true", "false" })
+    boolean defaultInterceptors;
+
+    SmallRyeConfig config;
+
+    @Setup
+    public void setup() {
+        Map<String, String> first = BenchmarkConfig.properties(100);
+        first.put("app.first", "first");
+        Map<String, String> second = BenchmarkConfig.properties(100);
+        second.put("app.second", "second");
+        second.put("%dev.app.profile", "profile");
+
+        SmallRyeConfigBuilder builder = new SmallRyeConfigBuilder()
+                .withSources(source(first, "first", 200))
+                .withSources(source(second, "second", 100))
+                .withProfile("dev")
+                .withFixedPropertyNames(true);
+        if (defaultInterceptors) {
+            builder.addDefaultInterceptors();
+        }
+        config = builder.build();
+    }
+
+    private ConfigSource source(Map<String, String> properties, String name,
+            int ordinal) {
+        return "properties".equals(type) ? new PropertiesConfigSource(properties, name, ordinal)
+                : new ConfigValuePropertiesConfigSource(properties, name, ordinal);
+    }
+
+    @Benchmark
+    public String getRawValueFirstSource() {
+        return config.getRawValue("app.first");
+    }
+
+    @Benchmark
+    public String getRawValueSecondSource() {
+        return config.getRawValue("app.second");
+    }
+
+    @Benchmark
+    public ConfigValue getConfigValue() {
+        return config.getConfigValue("app.second");
+    }
+
+    @Benchmark
+    public String getRawValueProfile() {
+        return config.getRawValue("app.profile");
+    }
+
+    @Benchmark
+    public String getRawValueMissing() {
+        return config.getRawValue("app.missing");
+    }
+}
@@ -0,0 +1,62 @@
+package io.smallrye.config.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * Lookup of an {@code int} property with the primitive accessors, compared with a boxed lookup. Check
+ * <code>gc.alloc.rate.norm</code>: the primitive accessors should only allocate what the lookup itself needs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveLookupBenchmark {
+    SmallRyeConfig config;
+
+    @Setup
+    public void setup() {
+        Map<String, String> properties = BenchmarkConfig.properties(100);
+        properties.put("app.pool.size", "1024");
+        config = new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(properties, "properties", 100))
+                .build();
+    }
+
+    @Benchmark
+    public int getValue() {
+        return config.getValue("app.pool.size", Integer.class);
+    }
+
+    @Benchmark
+    public int getOptionalValue() {
+        return config.getOptionalValue("app.missing", Integer.class).orElse(16);
+    }
+
+    @Benchmark
+    public int getInt() {
+        return config.getInt("app.pool.size");
+    }
+
+    @Benchmark
+    public int getIntDefault() {
+        return config.getInt("app.missing", 16);
+    }
+}
@@ -0,0 +1,65 @@
+package io.smallrye.config.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.config.EnvConfigSource;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * Builds a {@link SmallRyeConfig} with the default interceptors from a properties source and a large environment.
+ * Half of the environment variables override a property and the other half are unrelated to any property, like in a
+ * container with many injected variables.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StartupBenchmark {
+    @Param({ "1000", "10000" })
+    int keys;
+    @Param({ "100", "1000" })
+    int envs;
+
+    Map<String, String> properties;
+    Map<String, String> env;
+
+    @Setup
+    public void setup() {
+        properties = BenchmarkConfig.properties(keys);
+        env = new HashMap<>();
+        for (int i = 0; i < envs; i++) {
+            if (i % 2 == 0) {
+                env.put(BenchmarkConfig.envName(BenchmarkConfig.name(i % keys)), "env" + i);
+            } else {
+                env.put("CONTAINER_VAR_" + i, "env" + i);
+            }
+        }
+    }
+
+    @Benchmark
+    public SmallRyeConfig build() {
+        return new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(new EnvConfigSource(env, 300))
+                .withSources(new PropertiesConfigSource(properties, "properties", 100))
+                .build();
+    }
+}
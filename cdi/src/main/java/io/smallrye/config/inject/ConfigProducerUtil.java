@@ -146,7 +146,12 @@ public final class ConfigProducerUtil {
     }
 
     private static <T> Converter<T> resolveConverter(final Type type, final Config config) {
-        return resolveConverter(type, config, Converters::newMapConverter);
+        if (type instanceof ParameterizedType && ((ParameterizedType) type).getRawType() == Supplier.class) {
+            return resolveConverter(((ParameterizedType) type).getActualTypeArguments()[0], config);
+        }
+        // share the converters composed and cached by the config, and only compose the ones it does not know
+        final Optional<Converter<T>> converter = ((SmallRyeConfig) config).getConverter(type);
+        return converter.isPresent() ? converter.get() : resolveConverter(type, config, Converters::newMapConverter);
     }
 
     @SuppressWarnings("unchecked")
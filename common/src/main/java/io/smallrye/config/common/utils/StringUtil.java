@@ -17,8 +17,6 @@
 package io.smallrye.config.common.utils;
 
 import java.util.ArrayList;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * @author <a href="http://jmesnil.net/">Jeff Mesnil</a> (c) 2017 Red Hat inc.
@@ -27,8 +25,6 @@ public class StringUtil {
 
     private static final String[] NO_STRINGS = new String[0];
 
-    private static final Pattern ITEM_PATTERN = Pattern.compile("(,+)|([^\\\\,]+)|\\\\(.)");
-
     private StringUtil() {
     }
 
@@ -36,56 +32,93 @@ public class StringUtil {
         if (text == null || text.isEmpty()) {
             return NO_STRINGS;
         }
-        final Matcher matcher = ITEM_PATTERN.matcher(text);
-        String item = null;
-        StringBuilder b = null;
-        ArrayList<String> list = new ArrayList<>(4);
-        while (matcher.find()) {
-            if (matcher.group(1) != null) {
-                // delimiter
-                if (item != null) {
-                    list.add(item);
-                    item = null;
-                }
-            } else if (matcher.group(2) != null) {
-                // regular text blob
-                assert item == null : "Regular expression matching malfunctioned";
-                item = matcher.group(2);
-            } else if (matcher.group(3) != null) {
-                // escaped text
-                if (b == null) {
-                    b = new StringBuilder();
-                }
-                if (item != null) {
-                    b.append(item);
-                    item = null;
+        final Tokenizer tokenizer = new Tokenizer(text);
+        final ArrayList<String> list = new ArrayList<>(4);
+        String item;
+        while ((item = tokenizer.next()) != null) {
+            list.add(item);
+        }
+        return list.toArray(NO_STRINGS);
+    }
+
+    /**
+     * Returns the maximum number of items of a comma-separated string, to size the result of a {@link Tokenizer}
+     * without splitting the string first.
+     *
+     * @param text the comma-separated string
+     * @return the number of items if no comma is escaped, more otherwise
+     */
+    public static int maxItems(String text) {
+        int items = 1;
+        for (int i = text.indexOf(','); i >= 0; i = text.indexOf(',', i + 1)) {
+            items++;
+        }
+        return items;
+    }
+
+    /**
+     * Returns the items of a comma-separated string one at a time, with the same rules as {@link #split(String)}:
+     * empty items are skipped, and a backslash escapes the next character. An item without escapes is a substring of
+     * the text, so the items can be converted as they are found, without collecting them first.
+     */
+    public static final class Tokenizer {
+        private final String text;
+        private int position;
+        private StringBuilder builder;
+
+        public Tokenizer(final String text) {
+            this.text = text;
+        }
+
+        /**
+         * @return the next item, or {@code null} if there are no more items
+         */
+        public String next() {
+            final String text = this.text;
+            final int length = text.length();
+            int i = position;
+            while (i < length && text.charAt(i) == ',') {
+                i++;
+            }
+            final int start = i;
+            while (i < length) {
+                final char c = text.charAt(i);
+                if (c == ',') {
+                    break;
+                } else if (c == '\\') {
+                    return nextEscaped(start);
                 }
-                b.append(matcher.group(3));
-                while (matcher.find()) {
-                    if (matcher.group(1) != null) {
-                        // delimiter
-                        break;
-                    } else if (matcher.group(2) != null) {
-                        // regular text blob
-                        b.append(matcher.group(2));
-                    } else if (matcher.group(3) != null) {
-                        b.append(matcher.group(3));
-                    } else {
-                        // unreachable
-                        throw new IllegalStateException();
+                i++;
+            }
+            position = i;
+            return start == i ? null : text.substring(start, i);
+        }
+
+        private String nextEscaped(final int start) {
+            final String text = this.text;
+            final int length = text.length();
+            if (builder == null) {
+                builder = new StringBuilder();
+            }
+            final StringBuilder b = builder;
+            b.setLength(0);
+            int i = start;
+            while (i < length) {
+                final char c = text.charAt(i++);
+                if (c == ',') {
+                    break;
+                } else if (c == '\\') {
+                    if (i < length) {
+                        b.append(text.charAt(i++));
                     }
+                } else {
+                    b.append(c);
                 }
-                list.add(b.toString());
-                b.setLength(0);
-            } else {
-                // unreachable
-                throw new IllegalStateException();
             }
+            position = i;
+            // a trailing backslash alone is not an item
+            return b.length() == 0 ? next() : b.toString();
         }
-        if (item != null) {
-            list.add(item);
-        }
-        return list.toArray(NO_STRINGS);
     }
 
     public static String replaceNonAlphanumericByUnderscores(final String name) {
@@ -16,6 +16,7 @@
 package io.smallrye.config.common.utils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import org.junit.jupiter.api.Test;
 
@@ -92,4 +93,24 @@ class StringUtilTest {
         assertEquals("barx", split[1]);
         assertEquals("baz", split[2]);
     }
+
+    @Test
+    void tokenizer() {
+        StringUtil.Tokenizer tokenizer = new StringUtil.Tokenizer(",foo,,bar\\,baz,qux\\");
+        assertEquals("foo", tokenizer.next());
+        assertEquals("bar,baz", tokenizer.next());
+        assertEquals("qux", tokenizer.next());
+        assertNull(tokenizer.next());
+        assertNull(tokenizer.next());
+
+        assertNull(new StringUtil.Tokenizer("\\").next());
+        assertNull(new StringUtil.Tokenizer(",,").next());
+    }
+
+    @Test
+    void maxItems() {
+        assertEquals(1, StringUtil.maxItems("foo"));
+        assertEquals(3, StringUtil.maxItems("foo,bar,baz"));
+        assertEquals(3, StringUtil.maxItems("foo\\,bar,baz"));
+    }
 }
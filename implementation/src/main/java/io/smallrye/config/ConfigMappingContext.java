@@ -12,6 +12,7 @@ import static io.smallrye.config.ConfigValidationException.Problem;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.UndeclaredThrowableException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -21,6 +22,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.IntFunction;
 
 import org.eclipse.microprofile.config.spi.Converter;
@@ -33,10 +36,23 @@ import io.smallrye.config.ConfigMappingInterface.NamingStrategy;
  * mapping has completed.
  */
 public final class ConfigMappingContext {
-    private final Map<Class<?>, Map<String, Map<Object, Object>>> enclosedThings = new IdentityHashMap<>();
+    /**
+     * The slots of each mapping type. A slot is an index in the tables of the context for the mapping type, assigned
+     * once per field, so the slots of a type are numbered from {@code 0} to the number of its fields.
+     */
+    private static final ClassValue<Slots> SLOTS = new ClassValue<Slots>() {
+        @Override
+        protected Slots computeValue(final Class<?> type) {
+            return new Slots();
+        }
+    };
+    private static final Converter<?>[] NO_CONVERTERS = new Converter<?>[0];
+    private static final Map<?, ?>[] NO_ENCLOSED = new Map<?, ?>[0];
+
     private final Map<Class<?>, Map<String, ConfigMappingObject>> roots = new IdentityHashMap<>();
-    private final Map<Class<?>, Map<String, Converter<?>>> convertersByTypeAndField = new IdentityHashMap<>();
-    private final List<Map<Class<?>, Map<String, Converter<?>>>> keyConvertersByDegreeTypeAndField = new ArrayList<>();
+    private final Map<Class<?>, Tables> tables = new IdentityHashMap<>();
+    private Class<?> lastType;
+    private Tables lastTables;
     private final Map<Class<?>, Converter<?>> converterInstances = new IdentityHashMap<>();
     private final List<ConfigMappingObject> allInstances = new ArrayList<>();
     private final SmallRyeConfig config;
@@ -57,18 +73,124 @@ public final class ConfigMappingContext {
         roots.computeIfAbsent(rootType, x -> new HashMap<>()).put(rootPath, root);
     }
 
+    /**
+     * Returns the slot of a field of a mapping type. Generated mapping classes look up the slots of their fields once,
+     * when they are initialized, and use them to access the tables of the context.
+     *
+     * @param enclosingType the mapping type
+     * @param field the field name
+     * @return the slot of the field
+     */
+    public static int getSlot(Class<?> enclosingType, String field) {
+        return SLOTS.get(enclosingType).get(field);
+    }
+
     public Object getEnclosedField(Class<?> enclosingType, String key, Object enclosingObject) {
-        return enclosedThings
-                .getOrDefault(enclosingType, Collections.emptyMap())
-                .getOrDefault(key, Collections.emptyMap())
-                .get(enclosingObject);
+        int index = index(key);
+        return index == -1 ? getEnclosedField(getSlot(enclosingType, key), enclosingType, enclosingObject)
+                : getEnclosedField(getSlot(enclosingType, key.substring(0, key.lastIndexOf('['))), index, enclosingType,
+                        enclosingObject);
+    }
+
+    public Object getEnclosedField(int slot, Class<?> enclosingType, Object enclosingObject) {
+        Map<?, ?>[] enclosed = tables(enclosingType).enclosed;
+        if (slot < enclosed.length && enclosed[slot] != null) {
+            return enclosed[slot].get(enclosingObject);
+        }
+        return null;
+    }
+
+    /**
+     * Returns an element of an indexed field, like a collection of groups, registered with the slot of the field and
+     * the index of the element.
+     */
+    public Object getEnclosedField(int slot, int index, Class<?> enclosingType, Object enclosingObject) {
+        Map<?, ?>[] indexed = tables(enclosingType).indexed;
+        if (slot < indexed.length && indexed[slot] != null) {
+            Map<?, ?> elements = (Map<?, ?>) indexed[slot].get(enclosingObject);
+            return elements != null ? elements.get(index) : null;
+        }
+        return null;
     }
 
     public void registerEnclosedField(Class<?> enclosingType, String key, Object enclosingObject, Object value) {
-        enclosedThings
-                .computeIfAbsent(enclosingType, x -> new HashMap<>())
-                .computeIfAbsent(key, x -> new IdentityHashMap<>())
-                .put(enclosingObject, value);
+        int index = index(key);
+        if (index == -1) {
+            registerEnclosedField(getSlot(enclosingType, key), enclosingType, enclosingObject, value);
+        } else {
+            registerEnclosedField(getSlot(enclosingType, key.substring(0, key.lastIndexOf('['))), index, enclosingType,
+                    enclosingObject, value);
+        }
+    }
+
+    public void registerEnclosedField(int slot, Class<?> enclosingType, Object enclosingObject, Object value) {
+        Tables tables = tables(enclosingType);
+        tables.enclosed = register(tables.enclosed, slot, enclosingObject, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void registerEnclosedField(int slot, int index, Class<?> enclosingType, Object enclosingObject, Object value) {
+        Tables tables = tables(enclosingType);
+        Map<?, ?>[] indexed = tables.indexed;
+        Map<Integer, Object> elements = slot < indexed.length && indexed[slot] != null
+                ? (Map<Integer, Object>) indexed[slot].get(enclosingObject)
+                : null;
+        if (elements == null) {
+            elements = new HashMap<>();
+            tables.indexed = register(indexed, slot, enclosingObject, elements);
+        }
+        elements.put(index, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<?, ?>[] register(Map<?, ?>[] enclosedThings, int slot, Object enclosingObject, Object value) {
+        if (slot >= enclosedThings.length) {
+            enclosedThings = Arrays.copyOf(enclosedThings, capacity(enclosedThings.length, slot));
+        }
+        Map<Object, Object> enclosed = (Map<Object, Object>) enclosedThings[slot];
+        if (enclosed == null) {
+            enclosedThings[slot] = enclosed = new IdentityHashMap<>();
+        }
+        enclosed.put(enclosingObject, value);
+        return enclosedThings;
+    }
+
+    /**
+     * The index of an indexed field name, like <code>servers[2]</code>.
+     *
+     * @return the index, or {@code -1} if the name is not indexed
+     */
+    private static int index(String key) {
+        int length = key.length();
+        if (length < 3 || key.charAt(length - 1) != ']') {
+            return -1;
+        }
+        int start = key.lastIndexOf('[');
+        if (start <= 0 || start == length - 2) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = start + 1; i < length - 1; i++) {
+            char c = key.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+
+    private Tables tables(Class<?> enclosingType) {
+        if (enclosingType == lastType) {
+            return lastTables;
+        }
+        Tables tables = this.tables.get(enclosingType);
+        if (tables == null) {
+            this.tables.put(enclosingType, tables = new Tables());
+        }
+        lastType = enclosingType;
+        lastTables = tables;
+        return tables;
     }
 
     public <T> T constructRoot(Class<T> interfaceType) {
@@ -82,15 +204,23 @@ public final class ConfigMappingContext {
         return mappingObject;
     }
 
-    @SuppressWarnings({ "unchecked", "unused" })
     public <T> Converter<T> getValueConverter(Class<?> enclosingType, String field) {
-        return (Converter<T>) convertersByTypeAndField
-                .computeIfAbsent(enclosingType, x -> new HashMap<>())
-                .computeIfAbsent(field, x -> {
-                    ConfigMappingInterface ci = getConfigurationInterface(enclosingType);
-                    Property property = ci.getProperty(field);
-                    return getConverter(property);
-                });
+        return getValueConverter(getSlot(enclosingType, field), enclosingType, field);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Converter<T> getValueConverter(int slot, Class<?> enclosingType, String field) {
+        Tables tables = tables(enclosingType);
+        Converter<?>[] converters = tables.converters;
+        if (slot < converters.length && converters[slot] != null) {
+            return (Converter<T>) converters[slot];
+        }
+        Converter<?> converter = getConverter(getConfigurationInterface(enclosingType).getProperty(field));
+        if (slot >= converters.length) {
+            tables.converters = converters = Arrays.copyOf(converters, capacity(converters.length, slot));
+        }
+        converters[slot] = converter;
+        return (Converter<T>) converter;
     }
 
     private Converter<?> getConverter(final Property property) {
@@ -129,48 +259,84 @@ public final class ConfigMappingContext {
         }
     }
 
-    @SuppressWarnings("unchecked")
     public <T> Converter<T> getKeyConverter(Class<?> enclosingType, String field, int degree) {
-        List<Map<Class<?>, Map<String, Converter<?>>>> list = this.keyConvertersByDegreeTypeAndField;
+        return getKeyConverter(getSlot(enclosingType, field), enclosingType, field, degree);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Converter<T> getKeyConverter(int slot, Class<?> enclosingType, String field, int degree) {
+        List<Converter<?>[]> list = tables(enclosingType).keyConverters;
         while (list.size() <= degree) {
-            list.add(new IdentityHashMap<>());
-        }
-        Map<Class<?>, Map<String, Converter<?>>> map = list.get(degree);
-        return (Converter<T>) map
-                .computeIfAbsent(enclosingType, x -> new HashMap<>())
-                .computeIfAbsent(field, x -> {
-                    ConfigMappingInterface ci = getConfigurationInterface(enclosingType);
-                    Property property = ci.getProperty(field);
-                    MapProperty mapProperty;
-                    if (property.isMap()) {
-                        mapProperty = property.asMap();
-                    } else if (property.isCollection()) {
-                        mapProperty = property.asCollection().getElement().asMap();
-                    } else {
-                        throw new IllegalStateException();
-                    }
-
-                    while (degree + 1 > mapProperty.getLevels()) {
-                        mapProperty = mapProperty.getValueProperty().asMap();
-                    }
-                    if (mapProperty.hasKeyConvertWith()) {
-                        return getConverterInstance(mapProperty.getKeyConvertWith());
-                    } else {
-                        // todo: replace with generic converter lookup
-                        Class<?> valueRawType = mapProperty.getKeyRawType();
-                        if (valueRawType == List.class) {
-                            return Converters.newCollectionConverter(
-                                    config.requireConverter(rawTypeOf(typeOfParameter(mapProperty.getKeyType(), 0))),
-                                    ArrayList::new);
-                        } else if (valueRawType == Set.class) {
-                            return Converters.newCollectionConverter(
-                                    config.requireConverter(rawTypeOf(typeOfParameter(mapProperty.getKeyType(), 0))),
-                                    HashSet::new);
-                        } else {
-                            return config.requireConverter(valueRawType);
-                        }
-                    }
-                });
+            list.add(NO_CONVERTERS);
+        }
+        Converter<?>[] converters = list.get(degree);
+        if (slot < converters.length && converters[slot] != null) {
+            return (Converter<T>) converters[slot];
+        }
+        Converter<?> converter = createKeyConverter(enclosingType, field, degree);
+        if (slot >= converters.length) {
+            converters = Arrays.copyOf(converters, capacity(converters.length, slot));
+            list.set(degree, converters);
+        }
+        converters[slot] = converter;
+        return (Converter<T>) converter;
+    }
+
+    private Converter<?> createKeyConverter(final Class<?> enclosingType, final String field, final int degree) {
+        ConfigMappingInterface ci = getConfigurationInterface(enclosingType);
+        Property property = ci.getProperty(field);
+        MapProperty mapProperty;
+        if (property.isMap()) {
+            mapProperty = property.asMap();
+        } else if (property.isCollection()) {
+            mapProperty = property.asCollection().getElement().asMap();
+        } else {
+            throw new IllegalStateException();
+        }
+
+        while (degree + 1 > mapProperty.getLevels()) {
+            mapProperty = mapProperty.getValueProperty().asMap();
+        }
+        if (mapProperty.hasKeyConvertWith()) {
+            return getConverterInstance(mapProperty.getKeyConvertWith());
+        } else {
+            // todo: replace with generic converter lookup
+            Class<?> valueRawType = mapProperty.getKeyRawType();
+            if (valueRawType == List.class) {
+                return Converters.newCollectionConverter(
+                        config.requireConverter(rawTypeOf(typeOfParameter(mapProperty.getKeyType(), 0))),
+                        ArrayList::new);
+            } else if (valueRawType == Set.class) {
+                return Converters.newCollectionConverter(
+                        config.requireConverter(rawTypeOf(typeOfParameter(mapProperty.getKeyType(), 0))),
+                        HashSet::new);
+            } else {
+                return config.requireConverter(valueRawType);
+            }
+        }
+    }
+
+    private static int capacity(final int length, final int slot) {
+        return Math.max(slot + 1, length + (length >> 1));
+    }
+
+    private static final class Slots {
+        private final Map<String, Integer> slots = new ConcurrentHashMap<>();
+        private final AtomicInteger nextSlot = new AtomicInteger();
+
+        int get(final String field) {
+            return slots.computeIfAbsent(field, x -> nextSlot.getAndIncrement());
+        }
+    }
+
+    /**
+     * The tables of a mapping type, indexed by the slots of the type.
+     */
+    private static final class Tables {
+        private Map<?, ?>[] enclosed = NO_ENCLOSED;
+        private Map<?, ?>[] indexed = NO_ENCLOSED;
+        private Converter<?>[] converters = NO_CONVERTERS;
+        private final List<Converter<?>[]> keyConverters = new ArrayList<>();
     }
 
     @SuppressWarnings("unchecked")
@@ -1,13 +1,17 @@
 package io.smallrye.config;
 
 import static org.objectweb.asm.Opcodes.ACC_ABSTRACT;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_INTERFACE;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_STATIC;
 import static org.objectweb.asm.Opcodes.ALOAD;
 import static org.objectweb.asm.Opcodes.ARETURN;
 import static org.objectweb.asm.Opcodes.ASTORE;
 import static org.objectweb.asm.Opcodes.CHECKCAST;
 import static org.objectweb.asm.Opcodes.DUP;
+import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.GOTO;
 import static org.objectweb.asm.Opcodes.ICONST_0;
 import static org.objectweb.asm.Opcodes.ICONST_1;
@@ -22,6 +26,8 @@ import static org.objectweb.asm.Opcodes.ISTORE;
 import static org.objectweb.asm.Opcodes.NEW;
 import static org.objectweb.asm.Opcodes.POP;
 import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.PUTSTATIC;
+import static org.objectweb.asm.Opcodes.RETURN;
 import static org.objectweb.asm.Opcodes.V1_8;
 import static org.objectweb.asm.Type.getDescriptor;
 import static org.objectweb.asm.Type.getInternalName;
@@ -152,7 +158,12 @@ public class ConfigMappingGenerator {
         // stack: sb
         fio.visitVarInsn(Opcodes.ASTORE, V_STRING_BUILDER);
         // stack: -
-        addProperties(visitor, ctor, fio, new HashSet<>(), mapping, mapping.getClassInternalName());
+        MethodVisitor clinit = visitor.visitMethod(ACC_STATIC, "<clinit>", "()V", null, null);
+        addProperties(visitor, ctor, fio, clinit, new HashSet<>(), mapping, mapping.getClassInternalName());
+        // stack: -
+        clinit.visitInsn(RETURN);
+        clinit.visitEnd();
+        clinit.visitMaxs(0, 0);
         // stack: -
         fio.visitInsn(Opcodes.RETURN);
         fio.visitLabel(fioEnd);
@@ -359,10 +370,32 @@ public class ConfigMappingGenerator {
         return writer.toByteArray();
     }
 
+    /**
+     * Declares a static field with the {@link ConfigMappingContext} slot of a property, initialized when the class is
+     * initialized, so the slot is resolved once and not on each mapping.
+     *
+     * @return the name of the slot field
+     */
+    private static String slotField(
+            final ClassVisitor cv,
+            final MethodVisitor clinit,
+            final ConfigMappingInterface mapping,
+            final String className,
+            final String memberName) {
+        String slotField = "$slot$" + memberName;
+        cv.visitField(ACC_PRIVATE | ACC_STATIC | ACC_FINAL, slotField, "I", null, null);
+        clinit.visitLdcInsn(getType(mapping.getInterfaceType()));
+        clinit.visitLdcInsn(memberName);
+        clinit.visitMethodInsn(INVOKESTATIC, I_MAPPING_CONTEXT, "getSlot", "(L" + I_CLASS + ";L" + I_STRING + ";)I", false);
+        clinit.visitFieldInsn(PUTSTATIC, className, slotField, "I");
+        return slotField;
+    }
+
     private static void addProperties(
             final ClassVisitor cv,
             final MethodVisitor ctor,
             final MethodVisitor fio,
+            final MethodVisitor clinit,
             final Set<String> visited,
             final ConfigMappingInterface mapping,
             final String className) {
@@ -497,24 +530,16 @@ public class ConfigMappingGenerator {
                     ctor.visitMethodInsn(INVOKEINTERFACE, I_COLLECTION, "add", "(L" + I_OBJECT + ";)Z", true);
                     ctor.visitInsn(POP);
 
-                    // register indexed enclosing element
+                    // register indexed enclosing element, with the slot of the collection and the index
                     ctor.visitVarInsn(Opcodes.ALOAD, V_MAPPING_CONTEXT);
+                    ctor.visitFieldInsn(GETSTATIC, className, slotField(cv, clinit, mapping, className, memberName), "I");
+                    ctor.visitVarInsn(ALOAD, 8);
+                    ctor.visitMethodInsn(INVOKEVIRTUAL, I_INTEGER, "intValue", "()I", false);
                     ctor.visitLdcInsn(Type.getType(mapping.getInterfaceType()));
-                    ctor.visitTypeInsn(NEW, I_STRING_BUILDER);
-                    ctor.visitInsn(DUP);
-                    ctor.visitMethodInsn(INVOKESPECIAL, I_STRING_BUILDER, "<init>", "()V", false);
-                    ctor.visitLdcInsn(memberName);
-                    ctor.visitMethodInsn(INVOKEVIRTUAL, I_STRING_BUILDER, "append",
-                            "(L" + I_STRING + ";)L" + I_STRING_BUILDER + ";", false);
-                    ctor.visitVarInsn(ALOAD, 10);
-                    ctor.visitMethodInsn(INVOKEVIRTUAL, I_STRING_BUILDER, "append",
-                            "(L" + I_STRING + ";)L" + I_STRING_BUILDER + ";", false);
-                    ctor.visitMethodInsn(INVOKEVIRTUAL, I_STRING_BUILDER, "toString", "()L" + I_STRING + ";", false);
                     ctor.visitVarInsn(ALOAD, V_THIS);
                     ctor.visitVarInsn(ALOAD, 11);
                     ctor.visitMethodInsn(INVOKEVIRTUAL, I_MAPPING_CONTEXT, "registerEnclosedField",
-                            "(L" + I_CLASS + ";L" + I_STRING + ";L" + I_OBJECT + ";L" + I_OBJECT + ";)V",
-                            false);
+                            "(IIL" + I_CLASS + ";L" + I_OBJECT + ";L" + I_OBJECT + ";)V", false);
 
                     // reset sb without index
                     ctor.visitVarInsn(ALOAD, V_STRING_BUILDER);
@@ -553,10 +578,11 @@ public class ConfigMappingGenerator {
 
                 } else if (optional) {
                     ctor.visitVarInsn(Opcodes.ALOAD, V_MAPPING_CONTEXT);
+                    ctor.visitFieldInsn(GETSTATIC, className, slotField(cv, clinit, mapping, className, memberName), "I");
                     ctor.visitLdcInsn(getType(mapping.getInterfaceType()));
                     ctor.visitLdcInsn(memberName);
                     ctor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, I_MAPPING_CONTEXT, "getValueConverter",
-                            "(L" + I_CLASS + ";L" + I_STRING + ";)L" + I_CONVERTER + ';', false);
+                            "(IL" + I_CLASS + ";L" + I_STRING + ";)L" + I_CONVERTER + ';', false);
 
                     ctor.visitLdcInsn(getType(realProperty.asCollection().getCollectionRawType()));
                     ctor.visitMethodInsn(INVOKESTATIC, I_MAPPING_CONTEXT, "createCollectionFactory",
@@ -570,10 +596,11 @@ public class ConfigMappingGenerator {
                     }
                 } else {
                     ctor.visitVarInsn(Opcodes.ALOAD, V_MAPPING_CONTEXT);
+                    ctor.visitFieldInsn(GETSTATIC, className, slotField(cv, clinit, mapping, className, memberName), "I");
                     ctor.visitLdcInsn(getType(mapping.getInterfaceType()));
                     ctor.visitLdcInsn(memberName);
                     ctor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, I_MAPPING_CONTEXT, "getValueConverter",
-                            "(L" + I_CLASS + ";L" + I_STRING + ";)L" + I_CONVERTER + ';', false);
+                            "(IL" + I_CLASS + ";L" + I_STRING + ";)L" + I_CONVERTER + ';', false);
 
                     ctor.visitLdcInsn(getType(fieldDesc));
                     ctor.visitMethodInsn(INVOKESTATIC, I_MAPPING_CONTEXT, "createCollectionFactory",
@@ -602,14 +629,14 @@ public class ConfigMappingGenerator {
                 // stack: -
                 fio.visitVarInsn(Opcodes.ALOAD, V_MAPPING_CONTEXT);
                 // stack: ctxt
+                fio.visitFieldInsn(GETSTATIC, className, slotField(cv, clinit, mapping, className, memberName), "I");
+                // stack: ctxt slot
                 fio.visitLdcInsn(getType(mapping.getInterfaceType()));
-                // stack: ctxt iface
-                fio.visitLdcInsn(memberName);
-                // stack: ctxt iface name
+                // stack: ctxt slot type
                 fio.visitVarInsn(Opcodes.ALOAD, V_THIS);
-                // stack: ctxt iface name this
+                // stack: ctxt slot type this
                 fio.visitMethodInsn(Opcodes.INVOKEVIRTUAL, I_MAPPING_CONTEXT, "getEnclosedField",
-                        "(L" + I_CLASS + ";L" + I_STRING + ";L" + I_OBJECT + ";)L" + I_OBJECT + ';', false);
+                        "(IL" + I_CLASS + ";L" + I_OBJECT + ";)L" + I_OBJECT + ';', false);
                 // stack: obj?
                 fio.visitInsn(Opcodes.DUP);
                 Label _continue = new Label();
@@ -649,14 +676,13 @@ public class ConfigMappingGenerator {
                 ctor.visitFieldInsn(Opcodes.PUTFIELD, className, memberName, fieldDesc);
                 // register the group
                 ctor.visitVarInsn(Opcodes.ALOAD, V_MAPPING_CONTEXT);
-                ctor.visitLdcInsn(Type.getType(mapping.getInterfaceType()));
-                ctor.visitLdcInsn(memberName);
+                ctor.visitFieldInsn(GETSTATIC, className, slotField(cv, clinit, mapping, className, memberName), "I");
+                ctor.visitLdcInsn(getType(mapping.getInterfaceType()));
                 ctor.visitVarInsn(Opcodes.ALOAD, V_THIS);
                 ctor.visitVarInsn(Opcodes.ALOAD, V_THIS);
                 ctor.visitFieldInsn(Opcodes.GETFIELD, className, memberName, fieldDesc);
                 ctor.visitMethodInsn(INVOKEVIRTUAL, I_MAPPING_CONTEXT, "registerEnclosedField",
-                        "(L" + I_CLASS + ";L" + I_STRING + ";L" + I_OBJECT + ";L" + I_OBJECT + ";)V",
-                        false);
+                        "(IL" + I_CLASS + ";L" + I_OBJECT + ";L" + I_OBJECT + ";)V", false);
                 // stack: -
                 if (restoreLength) {
                     restoreLength(ctor);
@@ -675,10 +701,11 @@ public class ConfigMappingGenerator {
                 // stack: this config key
                 // get the converter to use
                 ctor.visitVarInsn(Opcodes.ALOAD, V_MAPPING_CONTEXT);
+                ctor.visitFieldInsn(GETSTATIC, className, slotField(cv, clinit, mapping, className, memberName), "I");
                 ctor.visitLdcInsn(getType(mapping.getInterfaceType()));
                 ctor.visitLdcInsn(memberName);
                 ctor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, I_MAPPING_CONTEXT, "getValueConverter",
-                        "(L" + I_CLASS + ";L" + I_STRING + ";)L" + I_CONVERTER + ';', false);
+                        "(IL" + I_CLASS + ";L" + I_STRING + ";)L" + I_CONVERTER + ';', false);
                 // stack: this config key converter
                 Label _try = new Label();
                 Label _catch = new Label();
@@ -738,14 +765,14 @@ public class ConfigMappingGenerator {
                 // stack: -
                 fio.visitVarInsn(Opcodes.ALOAD, V_MAPPING_CONTEXT);
                 // stack: ctxt
+                fio.visitFieldInsn(GETSTATIC, className, slotField(cv, clinit, mapping, className, memberName), "I");
+                // stack: ctxt slot
                 fio.visitLdcInsn(getType(mapping.getInterfaceType()));
-                // stack: ctxt iface
-                fio.visitLdcInsn(memberName);
-                // stack: ctxt iface name
+                // stack: ctxt slot type
                 fio.visitVarInsn(Opcodes.ALOAD, V_THIS);
-                // stack: ctxt iface name this
+                // stack: ctxt slot type this
                 fio.visitMethodInsn(Opcodes.INVOKEVIRTUAL, I_MAPPING_CONTEXT, "getEnclosedField",
-                        "(L" + I_CLASS + ";L" + I_STRING + ";L" + I_OBJECT + ";)L" + I_OBJECT + ';', false);
+                        "(IL" + I_CLASS + ";L" + I_OBJECT + ";)L" + I_OBJECT + ';', false);
                 // stack: obj?
                 fio.visitInsn(Opcodes.DUP);
                 Label _continue = new Label();
@@ -794,7 +821,7 @@ public class ConfigMappingGenerator {
         }
         // subtype overrides supertype
         for (ConfigMappingInterface superType : mapping.getSuperTypes()) {
-            addProperties(cv, ctor, fio, visited, superType, className);
+            addProperties(cv, ctor, fio, clinit, visited, superType, className);
         }
     }
 
@@ -1,11 +1,20 @@
 package io.smallrye.config;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.UndeclaredThrowableException;
+import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.microprofile.config.inject.ConfigProperties;
@@ -13,8 +22,16 @@ import org.eclipse.microprofile.config.inject.ConfigProperties;
 import io.smallrye.common.classloader.ClassDefiner;
 
 public final class ConfigMappingLoader {
+    /**
+     * The index of the mapping classes generated at build time by {@link ConfigMappingPrecompiler}. Each entry maps
+     * the name of a mapping type to the name of its generated class.
+     */
+    static final String PRECOMPILED_MAPPINGS = "META-INF/smallrye-config-mappings.properties";
+
     private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
     private static final ConcurrentHashMap<String, Object> classLoaderLocks = new ConcurrentHashMap<>();
+    private static final Map<ClassLoader, Map<String, String>> precompiledMappings = Collections
+            .synchronizedMap(new WeakHashMap<>());
 
     private static final ClassValue<ConfigMappingObjectHolder> CACHE = new ClassValue<ConfigMappingObjectHolder>() {
         @Override
@@ -56,34 +73,32 @@ public final class ConfigMappingLoader {
     static <T> T configMappingObject(Class<T> interfaceType, ConfigMappingContext configMappingContext) {
         ConfigMappingObject instance;
         try {
-            Constructor<? extends ConfigMappingObject> constructor = CACHE.get(interfaceType).getImplementationClass()
-                    .getDeclaredConstructor(ConfigMappingContext.class);
-            instance = constructor.newInstance(configMappingContext);
-        } catch (NoSuchMethodException e) {
-            throw new NoSuchMethodError(e.getMessage());
-        } catch (InstantiationException e) {
-            throw new InstantiationError(e.getMessage());
-        } catch (IllegalAccessException e) {
-            throw new IllegalAccessError(e.getMessage());
-        } catch (InvocationTargetException e) {
-            try {
-                throw e.getCause();
-            } catch (RuntimeException | Error e2) {
-                throw e2;
-            } catch (Throwable t) {
-                throw new UndeclaredThrowableException(t);
-            }
+            instance = (ConfigMappingObject) CACHE.get(interfaceType).getConstructor().invokeExact(configMappingContext);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
         }
         return interfaceType.cast(instance);
     }
 
     @SuppressWarnings("unchecked")
     static <T> Class<? extends ConfigMappingObject> getImplementationClass(Class<T> type) {
+        final Class<?> precompiled = loadPrecompiledClass(type);
+        if (precompiled != null) {
+            return (Class<? extends ConfigMappingObject>) precompiled;
+        }
+
         final ConfigMappingMetadata mappingMetadata = ConfigMappingInterface.getConfigurationInterface(type);
         return (Class<? extends ConfigMappingObject>) loadClass(type, mappingMetadata);
     }
 
     static Class<?> loadClass(final Class<?> parent, final ConfigMappingMetadata configMappingMetadata) {
+        final Class<?> precompiled = loadPrecompiledClass(parent);
+        if (precompiled != null) {
+            return precompiled;
+        }
+
         // acquire a lock on the class name to prevent race conditions in multithreaded use cases
         synchronized (getClassLoaderLock(configMappingMetadata.getClassName())) {
             // Check if the interface implementation was already loaded. If not we will load it.
@@ -104,6 +119,54 @@ public final class ConfigMappingLoader {
         }
     }
 
+    /**
+     * Loads the class generated at build time for a mapping type, if the class loader of the mapping type lists one in
+     * the {@link #PRECOMPILED_MAPPINGS} index. This skips the mapping metadata and the bytecode generation.
+     *
+     * @param parent the mapping type
+     * @return the generated class, or {@code null} if the mapping type was not precompiled
+     */
+    private static Class<?> loadPrecompiledClass(final Class<?> parent) {
+        final ClassLoader classLoader = parent.getClassLoader();
+        if (classLoader == null) {
+            return null;
+        }
+
+        final String className = precompiledMappings.computeIfAbsent(classLoader, ConfigMappingLoader::readPrecompiledMappings)
+                .get(parent.getName());
+        if (className == null) {
+            return null;
+        }
+
+        try {
+            final Class<?> klass = classLoader.loadClass(className);
+            // ConfigProperties classes map to a generated interface, and interfaces to a generated implementation
+            return parent.isInterface() && !parent.isAssignableFrom(klass) ? null : klass;
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    private static Map<String, String> readPrecompiledMappings(final ClassLoader classLoader) {
+        final Map<String, String> mappings = new HashMap<>();
+        try {
+            final Enumeration<URL> resources = classLoader.getResources(PRECOMPILED_MAPPINGS);
+            while (resources.hasMoreElements()) {
+                final Properties properties = new Properties();
+                try (InputStream in = resources.nextElement().openStream()) {
+                    properties.load(in);
+                }
+                for (String name : properties.stringPropertyNames()) {
+                    mappings.put(name, properties.getProperty(name));
+                }
+            }
+        } catch (IOException e) {
+            // Not precompiled. The mapping classes are generated when required.
+            return Collections.emptyMap();
+        }
+        return mappings;
+    }
+
     static void validateAnnotations(Class<?> type) {
         if (!type.isInterface() && type.isAnnotationPresent(ConfigMapping.class)) {
             throw ConfigMessages.msg.mappingAnnotationNotSupportedInClass(type);
@@ -130,14 +193,26 @@ public final class ConfigMappingLoader {
     }
 
     private static final class ConfigMappingObjectHolder {
-        private final Class<? extends ConfigMappingObject> implementationClass;
+        private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(ConfigMappingObject.class,
+                ConfigMappingContext.class);
+
+        private final MethodHandle constructor;
 
         ConfigMappingObjectHolder(final Class<? extends ConfigMappingObject> implementationClass) {
-            this.implementationClass = implementationClass;
+            try {
+                // resolved once, so each mapping object is created without the reflective lookup and access checks
+                this.constructor = LOOKUP
+                        .findConstructor(implementationClass, MethodType.methodType(void.class, ConfigMappingContext.class))
+                        .asType(CONSTRUCTOR_TYPE);
+            } catch (NoSuchMethodException e) {
+                throw new NoSuchMethodError(e.getMessage());
+            } catch (IllegalAccessException e) {
+                throw new IllegalAccessError(e.getMessage());
+            }
         }
 
-        public Class<? extends ConfigMappingObject> getImplementationClass() {
-            return implementationClass;
+        MethodHandle getConstructor() {
+            return constructor;
         }
     }
 }
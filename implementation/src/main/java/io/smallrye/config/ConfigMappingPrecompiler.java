@@ -0,0 +1,137 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.ConfigMappingLoader.PRECOMPILED_MAPPINGS;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.microprofile.config.inject.ConfigProperties;
+
+/**
+ * Generates the classes of config mappings at build time, so {@link ConfigMappingLoader} loads them instead of
+ * generating their bytecode when the mappings are first used.
+ * <p>
+ *
+ * The generated classes are written to a classes directory, together with an index in
+ * {@code META-INF/smallrye-config-mappings.properties} of the mapping types and their generated classes. It is
+ * usually called after the compilation of the mapping types, with the project classpath, for instance with the
+ * {@code exec-maven-plugin} in the {@code process-classes} phase:
+ *
+ * <pre>
+ * java -cp &lt;classpath&gt; io.smallrye.config.ConfigMappingPrecompiler target/classes [mapping type...]
+ * </pre>
+ *
+ * When no mapping types are set, all the interfaces annotated with {@link ConfigMapping} and the classes annotated
+ * with {@link ConfigProperties} in the classes directory are precompiled.
+ */
+public final class ConfigMappingPrecompiler {
+    private ConfigMappingPrecompiler() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static void main(String[] args) throws IOException, ClassNotFoundException {
+        if (args.length == 0) {
+            throw new IllegalArgumentException(
+                    "Usage: " + ConfigMappingPrecompiler.class.getName() + " <classes directory> [mapping type...]");
+        }
+
+        final Path output = Paths.get(args[0]);
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        final List<Class<?>> types = new ArrayList<>();
+        if (args.length == 1) {
+            for (String className : getClassNames(output)) {
+                final Class<?> type;
+                try {
+                    type = Class.forName(className, false, classLoader);
+                } catch (ClassNotFoundException | LinkageError e) {
+                    continue;
+                }
+                if (type.isInterface() && type.isAnnotationPresent(ConfigMapping.class)
+                        || !type.isInterface() && type.isAnnotationPresent(ConfigProperties.class)) {
+                    types.add(type);
+                }
+            }
+        } else {
+            for (int i = 1; i < args.length; i++) {
+                types.add(Class.forName(args[i], false, classLoader));
+            }
+        }
+
+        precompile(types, output);
+    }
+
+    /**
+     * Writes the generated classes of the given config mappings, including their nested groups, to a classes
+     * directory and adds them to the index in the same directory.
+     *
+     * @param types the config mapping interfaces, or {@link ConfigProperties} classes
+     * @param output the classes directory
+     * @return the names of the mapping types and their generated classes that were added to the index
+     * @throws IOException if the classes or the index could not be written
+     */
+    public static Map<String, String> precompile(final Collection<Class<?>> types, final Path output) throws IOException {
+        final Map<String, String> precompiled = new TreeMap<>();
+        for (Class<?> type : types) {
+            for (ConfigMappingMetadata mappingMetadata : ConfigMappingLoader.getConfigMappingsMetadata(type)) {
+                final String className = mappingMetadata.getClassName();
+                if (precompiled.put(mappingMetadata.getInterfaceType().getName(), className) != null) {
+                    continue;
+                }
+
+                final Path classFile = output.resolve(className.replace('.', '/') + ".class");
+                Files.createDirectories(classFile.getParent());
+                Files.write(classFile, mappingMetadata.getClassBytes());
+            }
+        }
+
+        final Path index = output.resolve(PRECOMPILED_MAPPINGS);
+        final Map<String, String> mappings = new TreeMap<>();
+        if (Files.exists(index)) {
+            try (BufferedReader reader = Files.newBufferedReader(index, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    final int separator = line.indexOf('=');
+                    if (!line.startsWith("#") && separator > 0) {
+                        mappings.put(line.substring(0, separator), line.substring(separator + 1));
+                    }
+                }
+            }
+        }
+        mappings.putAll(precompiled);
+
+        Files.createDirectories(index.getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(index, StandardCharsets.UTF_8)) {
+            writer.write("# Generated by " + ConfigMappingPrecompiler.class.getName());
+            writer.newLine();
+            for (Map.Entry<String, String> mapping : mappings.entrySet()) {
+                writer.write(mapping.getKey() + "=" + mapping.getValue());
+                writer.newLine();
+            }
+        }
+
+        return precompiled;
+    }
+
+    private static List<String> getClassNames(final Path classes) throws IOException {
+        try (Stream<Path> files = Files.walk(classes)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".class"))
+                    .map(file -> classes.relativize(file).toString())
+                    .map(file -> file.substring(0, file.length() - ".class".length())
+                            .replace(classes.getFileSystem().getSeparator(), "."))
+                    .filter(className -> !className.endsWith("module-info") && !className.endsWith("package-info"))
+                    .collect(Collectors.toList());
+        }
+    }
+}
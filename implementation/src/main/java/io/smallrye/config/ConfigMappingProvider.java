@@ -1,5 +1,6 @@
 package io.smallrye.config;
 
+import static io.smallrye.config.ConfigMappingContext.getSlot;
 import static io.smallrye.config.ConfigMappingInterface.GroupProperty;
 import static io.smallrye.config.ConfigMappingInterface.LeafProperty;
 import static io.smallrye.config.ConfigMappingInterface.MapProperty;
@@ -12,15 +13,25 @@ import static io.smallrye.config.common.utils.StringUtil.replaceNonAlphanumericB
 import static java.lang.Integer.parseInt;
 
 import java.io.Serializable;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 import org.eclipse.microprofile.config.spi.ConfigSource;
 import org.eclipse.microprofile.config.spi.Converter;
@@ -48,29 +59,84 @@ final class ConfigMappingProvider implements Serializable {
         IGNORE_EVERYTHING = map;
     }
 
+    /**
+     * The tries computed from the mapping roots and ignored paths, cached by one of the root types. They only depend
+     * on the mapping types, so the configurations built with the same roots and ignored paths share them, and only
+     * the first build walks the mapping interfaces. The tries are only cached when all the roots are loaded by the
+     * class loader of the key type, so they never hold on to the classes of another class loader.
+     */
+    private static final ClassValue<Map<TriesKey, Tries>> TRIES = new ClassValue<Map<TriesKey, Tries>>() {
+        @Override
+        protected Map<TriesKey, Tries> computeValue(final Class<?> type) {
+            return Collections.synchronizedMap(new LinkedHashMap<TriesKey, Tries>(16, 0.75f, true) {
+                private static final long serialVersionUID = 6206440263366573085L;
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<TriesKey, Tries> eldest) {
+                    return size() > MAX_TRIES_PER_TYPE;
+                }
+            });
+        }
+    };
+    /**
+     * The maximum number of cached tries for a root type, each with different roots or ignored paths.
+     */
+    private static final int MAX_TRIES_PER_TYPE = 8;
+
     private final Map<String, List<Class<?>>> roots;
+    private final KeyMap<String> rootsIndex;
     private final KeyMap<BiConsumer<ConfigMappingContext, NameIterator>> matchActions;
-    private final Map<String, Property> properties;
+    private Map<String, Property> properties;
     private final KeyMap<String> defaultValues;
     private final boolean validateUnknown;
+    private final boolean parallel;
+    private final boolean lazy;
 
     ConfigMappingProvider(final Builder builder) {
         this.roots = new HashMap<>(builder.roots);
-        this.matchActions = new KeyMap<>();
-        this.properties = new HashMap<>();
-        this.defaultValues = new KeyMap<>();
         this.validateUnknown = builder.validateUnknown;
+        this.parallel = builder.parallel;
+        this.lazy = builder.lazy;
+
+        final Class<?> triesClass = getTriesClass(roots);
+        final Map<TriesKey, Tries> cache = triesClass != null ? TRIES.get(triesClass) : null;
+        final TriesKey key = new TriesKey(roots, builder.ignored);
+        final Tries tries = cache != null ? cache.get(key) : null;
+        if (tries != null) {
+            this.rootsIndex = tries.rootsIndex;
+            this.matchActions = tries.matchActions;
+            this.properties = tries.properties;
+            // the config builder merges the default values with its own, so each provider gets its own copy
+            this.defaultValues = tries.defaultValues.map(value -> value);
+        } else {
+            this.rootsIndex = new KeyMap<>();
+            this.matchActions = new KeyMap<>();
+            this.properties = new HashMap<>();
+            this.defaultValues = new KeyMap<>();
+            processRoots(builder);
+            // the tries may be shared, so nothing can change them once they are built
+            this.properties = Collections.unmodifiableMap(properties);
+            if (cache != null) {
+                cache.putIfAbsent(key,
+                        new Tries(rootsIndex, matchActions, this.properties, defaultValues.map(value -> value)));
+            }
+        }
+    }
 
+    private void processRoots(final Builder builder) {
         final ArrayDeque<String> currentPath = new ArrayDeque<>();
         for (Map.Entry<String, List<Class<?>>> entry : roots.entrySet()) {
             NameIterator rootNi = new NameIterator(entry.getKey());
+            KeyMap<String> rootIndex = rootsIndex;
             while (rootNi.hasNext()) {
                 final String nextSegment = rootNi.getNextSegment();
                 if (!nextSegment.isEmpty()) {
                     currentPath.add(nextSegment);
+                    rootIndex = rootIndex.computeIfAbsent(nextSegment, k -> new KeyMap<>());
                 }
                 rootNi.next();
             }
+            rootIndex.putRootValue(entry.getKey());
             List<Class<?>> roots = entry.getValue();
             for (Class<?> root : roots) {
                 // construct the lazy match actions for each group
@@ -585,10 +651,14 @@ final class ConfigMappingProvider implements Serializable {
         return inlineCollectionPath;
     }
 
-    // This will add the property index (if exists) to the name
-    private static String indexName(final String name, final ArrayDeque<String> groupPath, final NameIterator nameIterator) {
+    /**
+     * The index of the enclosing element in the property name, when the group path ends with a collection.
+     *
+     * @return the index, or {@code -1} if the property name has no index for the group path
+     */
+    private static int index(final ArrayDeque<String> groupPath, final NameIterator nameIterator) {
         if (groupPath.isEmpty()) {
-            return name;
+            return -1;
         }
 
         String property = nameIterator.getAllPreviousSegments();
@@ -599,9 +669,8 @@ final class ConfigMappingProvider implements Serializable {
                 for (;;) {
                     if (property.charAt(i) == ']') {
                         try {
-                            int index = parseInt(
+                            return parseInt(
                                     property.substring(start + normalizeIfIndexed(groupPath.getLast()).length() + 1, i));
-                            return name + "[" + index + "]";
                         } catch (NumberFormatException e) {
                             //NOOP
                         }
@@ -614,7 +683,7 @@ final class ConfigMappingProvider implements Serializable {
                 }
             }
         }
-        return name;
+        return -1;
     }
 
     private static String propertyName(final Property property, final ConfigMappingInterface group,
@@ -630,6 +699,98 @@ final class ConfigMappingProvider implements Serializable {
         }
     }
 
+    /**
+     * A group of roots that are mapped together, on the first lookup of one of them.
+     */
+    final class LazyRoots {
+        private final SmallRyeConfig config;
+        private final ConfigMappings mappings;
+        private final Map<String, List<Class<?>>> roots;
+        private final List<String> names;
+        /**
+         * The state of the thread that built the config, so the roots are mapped the same way whichever thread looks
+         * them up first.
+         */
+        private final MappingState state;
+        private boolean mapped;
+        private ConfigValidationException exception;
+
+        LazyRoots(
+                final SmallRyeConfig config,
+                final ConfigMappings mappings,
+                final Map<String, List<Class<?>>> roots,
+                final List<String> names,
+                final MappingState state) {
+            this.config = config;
+            this.mappings = mappings;
+            this.roots = roots;
+            this.names = names;
+            this.state = state;
+        }
+
+        synchronized void map() throws ConfigValidationException {
+            if (exception != null) {
+                throw exception;
+            }
+            if (mapped) {
+                return;
+            }
+
+            ConfigMappingContext context = new ConfigMappingContext(config);
+            state.apply(() -> {
+                mapRoots(context, roots, names, false, Collections.emptySet());
+                return null;
+            });
+            ArrayList<ConfigValidationException.Problem> problems = context.getProblems();
+            if (!problems.isEmpty()) {
+                exception = new ConfigValidationException(problems.toArray(ConfigValidationException.Problem.NO_PROBLEMS));
+                throw exception;
+            }
+            context.fillInOptionals();
+
+            mappings.registerLazyConfigMappings(context.getRootsMap());
+            mapped = true;
+        }
+    }
+
+    /**
+     * The state of a thread that changes how the roots are mapped: if the secrets are locked, if the expressions are
+     * expanded, and the context class loader. Captured when the config is built, and set when the roots are mapped in
+     * another thread or later.
+     */
+    static final class MappingState {
+        private final boolean secretsLocked;
+        private final boolean expressionsEnabled;
+        private final ClassLoader classLoader;
+
+        private MappingState(final boolean secretsLocked, final boolean expressionsEnabled, final ClassLoader classLoader) {
+            this.secretsLocked = secretsLocked;
+            this.expressionsEnabled = expressionsEnabled;
+            this.classLoader = classLoader;
+        }
+
+        static MappingState capture() {
+            return new MappingState(SecretKeys.isLocked(), Expressions.isEnabled(), SecuritySupport.getContextClassLoader());
+        }
+
+        <T> T apply(final Supplier<T> action) {
+            Supplier<T> secrets = secretsLocked ? () -> SecretKeys.doLocked(action) : () -> SecretKeys.doUnlocked(action);
+            Supplier<T> expressions = expressionsEnabled ? () -> Expressions.withExpansion(secrets)
+                    : () -> Expressions.withoutExpansion(secrets);
+            Thread thread = Thread.currentThread();
+            ClassLoader previous = thread.getContextClassLoader();
+            if (previous == classLoader) {
+                return expressions.get();
+            }
+            thread.setContextClassLoader(classLoader);
+            try {
+                return expressions.get();
+            } finally {
+                thread.setContextClassLoader(previous);
+            }
+        }
+    }
+
     static class GetRootAction implements BiFunction<ConfigMappingContext, NameIterator, ConfigMappingObject> {
         private final Class<?> root;
         private final String rootPath;
@@ -651,6 +812,7 @@ final class ConfigMappingProvider implements Serializable {
         private final ConfigMappingInterface enclosingGroup;
         private final GroupProperty enclosedGroup;
         private final ArrayDeque<String> path;
+        private final int slot;
 
         GetOrCreateEnclosingGroupInGroup(
                 final BiFunction<ConfigMappingContext, NameIterator, ConfigMappingObject> delegate,
@@ -661,13 +823,16 @@ final class ConfigMappingProvider implements Serializable {
             this.enclosingGroup = enclosingGroup;
             this.enclosedGroup = enclosedGroup;
             this.path = new ArrayDeque<>(path);
+            this.slot = getSlot(enclosingGroup.getInterfaceType(), enclosedGroup.getMethod().getName());
         }
 
         public ConfigMappingObject apply(final ConfigMappingContext context, final NameIterator ni) {
             ConfigMappingObject ourEnclosing = delegate.apply(context, ni);
             Class<?> enclosingType = enclosingGroup.getInterfaceType();
-            String key = indexName(enclosedGroup.getMethod().getName(), path, ni);
-            ConfigMappingObject val = (ConfigMappingObject) context.getEnclosedField(enclosingType, key, ourEnclosing);
+            int index = index(path, ni);
+            ConfigMappingObject val = (ConfigMappingObject) (index == -1
+                    ? context.getEnclosedField(slot, enclosingType, ourEnclosing)
+                    : context.getEnclosedField(slot, index, enclosingType, ourEnclosing));
             context.applyNamingStrategy(
                     namingStrategy(enclosedGroup.getGroupType().getNamingStrategy(), enclosingGroup.getNamingStrategy()));
             if (val == null) {
@@ -675,7 +840,11 @@ final class ConfigMappingProvider implements Serializable {
                 StringBuilder sb = context.getStringBuilder();
                 sb.replace(0, sb.length(), ni.getAllPreviousSegments());
                 val = (ConfigMappingObject) context.constructGroup(enclosedGroup.getGroupType().getInterfaceType());
-                context.registerEnclosedField(enclosingType, key, ourEnclosing, val);
+                if (index == -1) {
+                    context.registerEnclosedField(slot, enclosingType, ourEnclosing, val);
+                } else {
+                    context.registerEnclosedField(slot, index, enclosingType, ourEnclosing, val);
+                }
             }
             return val;
         }
@@ -692,6 +861,7 @@ final class ConfigMappingProvider implements Serializable {
         final ConfigMappingInterface enclosingGroup;
         final GroupProperty enclosedGroup;
         final String mapPath;
+        final int keyConverterSlot;
 
         GetOrCreateEnclosingGroupInMap(final BiFunction<ConfigMappingContext, NameIterator, Map<?, ?>> getEnclosingMap,
                 final MapProperty enclosingMap, final ConfigMappingInterface enclosingGroup,
@@ -701,6 +871,7 @@ final class ConfigMappingProvider implements Serializable {
             this.enclosingGroup = enclosingGroup;
             this.enclosedGroup = enclosedGroup;
             this.mapPath = mapPath;
+            this.keyConverterSlot = getSlot(enclosingGroup.getInterfaceType(), enclosingMap.getMethod().getName());
         }
 
         @SuppressWarnings({ "unchecked", "rawtypes" })
@@ -709,7 +880,7 @@ final class ConfigMappingProvider implements Serializable {
             Map<?, ?> ourEnclosing = getEnclosingMap.apply(context, ni);
             ni.next();
             String mapKey = mapKey(ni);
-            Converter<?> keyConverter = context.getKeyConverter(enclosingGroup.getInterfaceType(),
+            Converter<?> keyConverter = context.getKeyConverter(keyConverterSlot, enclosingGroup.getInterfaceType(),
                     enclosingMap.getMethod().getName(), enclosingMap.getLevels() - 1);
             Object convertedKey = keyConverter.convert(mapKey);
             ConfigMappingObject val = (ConfigMappingObject) ourEnclosing.get(convertedKey);
@@ -756,6 +927,7 @@ final class ConfigMappingProvider implements Serializable {
         final ConfigMappingInterface enclosingGroup;
         final MapProperty enclosedGroup;
         final ArrayDeque<String> path;
+        final int slot;
 
         GetOrCreateEnclosingMapInGroup(
                 final BiFunction<ConfigMappingContext, NameIterator, ConfigMappingObject> delegate,
@@ -766,6 +938,7 @@ final class ConfigMappingProvider implements Serializable {
             this.enclosingGroup = enclosingGroup;
             this.enclosedGroup = enclosedGroup;
             this.path = new ArrayDeque<>(path);
+            this.slot = getSlot(enclosingGroup.getInterfaceType(), enclosedGroup.getMethod().getName());
         }
 
         public Map<?, ?> apply(final ConfigMappingContext context, final NameIterator ni) {
@@ -776,13 +949,19 @@ final class ConfigMappingProvider implements Serializable {
             if (consumeName)
                 ni.next();
             Class<?> enclosingType = enclosingGroup.getInterfaceType();
-            String key = indexName(enclosedGroup.getMethod().getName(), path, ni);
-            Map<?, ?> val = (Map<?, ?>) context.getEnclosedField(enclosingType, key, ourEnclosing);
+            int index = index(path, ni);
+            Map<?, ?> val = (Map<?, ?>) (index == -1
+                    ? context.getEnclosedField(slot, enclosingType, ourEnclosing)
+                    : context.getEnclosedField(slot, index, enclosingType, ourEnclosing));
             context.applyNamingStrategy(enclosingGroup.getNamingStrategy());
             if (val == null) {
                 // map is not yet constructed
                 val = new HashMap<>();
-                context.registerEnclosedField(enclosingType, key, ourEnclosing, val);
+                if (index == -1) {
+                    context.registerEnclosedField(slot, enclosingType, ourEnclosing, val);
+                } else {
+                    context.registerEnclosedField(slot, index, enclosingType, ourEnclosing, val);
+                }
             }
             return val;
         }
@@ -795,19 +974,93 @@ final class ConfigMappingProvider implements Serializable {
     static class GetFieldOfEnclosing implements BiFunction<ConfigMappingContext, NameIterator, ConfigMappingObject> {
         private final BiFunction<ConfigMappingContext, NameIterator, ConfigMappingObject> getEnclosingFunction;
         private final Class<?> type;
-        private final String memberName;
+        private final int slot;
 
         GetFieldOfEnclosing(final BiFunction<ConfigMappingContext, NameIterator, ConfigMappingObject> getEnclosingFunction,
                 final Class<?> type, final String memberName) {
             this.getEnclosingFunction = getEnclosingFunction;
             this.type = type;
-            this.memberName = memberName;
+            this.slot = getSlot(type, memberName);
         }
 
         public ConfigMappingObject apply(final ConfigMappingContext mc, final NameIterator ni) {
             ConfigMappingObject outer = getEnclosingFunction.apply(mc, ni);
             // eagerly populated groups will always exist
-            return (ConfigMappingObject) mc.getEnclosedField(type, memberName, outer);
+            return (ConfigMappingObject) mc.getEnclosedField(slot, type, outer);
+        }
+    }
+
+    /**
+     * The root type of the first root path, which holds the cached tries, or {@code null} if the tries must not be
+     * cached, because there are no roots or the roots are not all loaded by the same class loader.
+     */
+    private static Class<?> getTriesClass(final Map<String, List<Class<?>>> roots) {
+        String first = null;
+        for (String path : roots.keySet()) {
+            if (first == null || path.compareTo(first) < 0) {
+                first = path;
+            }
+        }
+        if (first == null) {
+            return null;
+        }
+
+        final Class<?> triesClass = roots.get(first).get(0);
+        for (List<Class<?>> types : roots.values()) {
+            for (Class<?> type : types) {
+                if (type.getClassLoader() != triesClass.getClassLoader()) {
+                    return null;
+                }
+            }
+        }
+        return triesClass;
+    }
+
+    static final class TriesKey {
+        private final Map<String, List<Class<?>>> roots;
+        private final List<List<String>> ignored;
+
+        TriesKey(final Map<String, List<Class<?>>> roots, final List<String[]> ignored) {
+            this.roots = new HashMap<>(roots.size());
+            for (Map.Entry<String, List<Class<?>>> entry : roots.entrySet()) {
+                this.roots.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+            }
+            this.ignored = new ArrayList<>(ignored.size());
+            for (String[] ignoredPath : ignored) {
+                this.ignored.add(Arrays.asList(ignoredPath));
+            }
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TriesKey)) {
+                return false;
+            }
+            final TriesKey that = (TriesKey) o;
+            return roots.equals(that.roots) && ignored.equals(that.ignored);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * roots.hashCode() + ignored.hashCode();
+        }
+    }
+
+    static final class Tries {
+        final KeyMap<String> rootsIndex;
+        final KeyMap<BiConsumer<ConfigMappingContext, NameIterator>> matchActions;
+        final Map<String, Property> properties;
+        final KeyMap<String> defaultValues;
+
+        Tries(final KeyMap<String> rootsIndex, final KeyMap<BiConsumer<ConfigMappingContext, NameIterator>> matchActions,
+                final Map<String, Property> properties, final KeyMap<String> defaultValues) {
+            this.rootsIndex = rootsIndex;
+            this.matchActions = matchActions;
+            this.properties = properties;
+            this.defaultValues = defaultValues;
         }
     }
 
@@ -844,12 +1097,55 @@ final class ConfigMappingProvider implements Serializable {
         }
 
         Assert.checkNotNullParam("config", config);
-        ConfigMappingContext context = new ConfigMappingContext(config);
+        boolean validateUnknown = validateUnknown(this.validateUnknown, config);
+        if (lazy) {
+            registerLazyRoots(config, mappings, validateUnknown);
+            return;
+        }
+
+        Set<String> unknownProperties = new HashSet<>();
+        List<ConfigMappingContext> contexts = new ArrayList<>();
+        // with a security manager, the common pool threads cannot take the context class loader of the caller
+        if (parallel && !rootsIndex.hasRootValue() && roots.size() > 1 && System.getSecurityManager() == null) {
+            contexts.addAll(mapPartitions(config, validateUnknown, unknownProperties));
+        } else {
+            ConfigMappingContext context = new ConfigMappingContext(config);
+            mapRoots(context, roots, config.getPropertyNames(), validateUnknown, unknownProperties);
+            contexts.add(context);
+        }
+
+        ConfigMappingContext context = contexts.get(0);
+        unknownProperties(unknownProperties, context);
+        ArrayList<ConfigValidationException.Problem> problems = new ArrayList<>();
+        for (ConfigMappingContext partition : contexts) {
+            problems.addAll(partition.getProblems());
+        }
+        if (!problems.isEmpty()) {
+            throw new ConfigValidationException(problems.toArray(ConfigValidationException.Problem.NO_PROBLEMS));
+        }
+
+        Map<Class<?>, Map<String, ConfigMappingObject>> rootsMap = new IdentityHashMap<>();
+        for (ConfigMappingContext partition : contexts) {
+            partition.fillInOptionals();
+            for (Map.Entry<Class<?>, Map<String, ConfigMappingObject>> entry : partition.getRootsMap().entrySet()) {
+                rootsMap.computeIfAbsent(entry.getKey(), k -> new HashMap<>()).putAll(entry.getValue());
+            }
+        }
+
+        mappings.registerConfigMappings(rootsMap);
+    }
+
+    private void mapRoots(
+            final ConfigMappingContext context,
+            final Map<String, List<Class<?>>> roots,
+            final Iterable<String> names,
+            final boolean validateUnknown,
+            final Set<String> unknownProperties) {
+
         // eagerly populate roots
         for (Map.Entry<String, List<Class<?>>> entry : roots.entrySet()) {
             String path = entry.getKey();
-            List<Class<?>> roots = entry.getValue();
-            for (Class<?> root : roots) {
+            for (Class<?> root : entry.getValue()) {
                 StringBuilder sb = context.getStringBuilder();
                 sb.replace(0, sb.length(), path);
                 ConfigMappingObject group = (ConfigMappingObject) context.constructRoot(root);
@@ -858,8 +1154,7 @@ final class ConfigMappingProvider implements Serializable {
         }
 
         // lazily sweep
-        Set<String> unknownProperties = new HashSet<>();
-        for (String name : config.getPropertyNames()) {
+        for (String name : names) {
             NameIterator ni = new NameIterator(name);
             // filter properties in root
             if (!isPropertyInRoot(ni)) {
@@ -869,64 +1164,160 @@ final class ConfigMappingProvider implements Serializable {
             BiConsumer<ConfigMappingContext, NameIterator> action = matchActions.findRootValue(ni);
             if (action != null) {
                 action.accept(context, ni);
-            } else {
-                if (validateUnknown(validateUnknown, config)) {
-                    unknownProperties.add(name);
+            } else if (validateUnknown) {
+                unknownProperties.add(name);
+            }
+        }
+    }
+
+    /**
+     * Maps each group of roots that share a prefix, and the property names under that prefix, in a separate
+     * {@link ConfigMappingContext} and in parallel. Roots in different groups never share a property name or a mapping
+     * object.
+     */
+    private List<ConfigMappingContext> mapPartitions(
+            final SmallRyeConfig config,
+            final boolean validateUnknown,
+            final Set<String> unknownProperties) {
+
+        Map<String, Map<String, List<Class<?>>>> partitionRoots = getPartitionRoots();
+        Map<String, List<String>> partitionNames = new HashMap<>();
+        for (String name : config.getPropertyNames()) {
+            String partition = findRoot(new NameIterator(name), true);
+            if (partition != null) {
+                partitionNames.computeIfAbsent(partition, k -> new ArrayList<>()).add(name);
+            }
+        }
+
+        // the worker threads do not see the thread locals and the context class loader of the caller
+        final MappingState state = MappingState.capture();
+        List<Future<Set<String>>> tasks = new ArrayList<>();
+        List<ConfigMappingContext> contexts = new ArrayList<>();
+        for (Map.Entry<String, Map<String, List<Class<?>>>> entry : partitionRoots.entrySet()) {
+            ConfigMappingContext context = new ConfigMappingContext(config);
+            List<String> names = partitionNames.getOrDefault(entry.getKey(), Collections.emptyList());
+            Supplier<Set<String>> partition = () -> {
+                Set<String> unknown = new HashSet<>();
+                mapRoots(context, entry.getValue(), names, validateUnknown, unknown);
+                return unknown;
+            };
+            contexts.add(context);
+            tasks.add(ForkJoinPool.commonPool().submit(() -> state.apply(partition)));
+        }
+
+        for (Future<Set<String>> task : tasks) {
+            try {
+                unknownProperties.addAll(task.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
                 }
+                throw new UndeclaredThrowableException(cause);
             }
         }
+        return contexts;
+    }
+
+    /**
+     * Registers each group of roots that share a prefix to be mapped on the first lookup of one of its roots. Only
+     * the unknown properties are validated here, with the match actions, so no mapping object is constructed.
+     */
+    private void registerLazyRoots(
+            final SmallRyeConfig config,
+            final ConfigMappings mappings,
+            final boolean validateUnknown) throws ConfigValidationException {
+
+        Map<String, List<String>> partitionNames = new HashMap<>();
+        Set<String> unknownProperties = new HashSet<>();
+        for (String name : config.getPropertyNames()) {
+            NameIterator ni = new NameIterator(name);
+            String partition = findRoot(ni, true);
+            if (partition == null) {
+                continue;
+            }
 
+            if (matchActions.findRootValue(ni) != null) {
+                partitionNames.computeIfAbsent(partition, k -> new ArrayList<>()).add(name);
+            } else if (validateUnknown) {
+                unknownProperties.add(name);
+            }
+        }
+
+        ConfigMappingContext context = new ConfigMappingContext(config);
         unknownProperties(unknownProperties, context);
         ArrayList<ConfigValidationException.Problem> problems = context.getProblems();
         if (!problems.isEmpty()) {
             throw new ConfigValidationException(problems.toArray(ConfigValidationException.Problem.NO_PROBLEMS));
         }
-        context.fillInOptionals();
 
-        mappings.registerConfigMappings(context.getRootsMap());
+        MappingState state = MappingState.capture();
+        for (Map.Entry<String, Map<String, List<Class<?>>>> entry : getPartitionRoots().entrySet()) {
+            LazyRoots lazyRoots = new LazyRoots(config, mappings, entry.getValue(),
+                    partitionNames.getOrDefault(entry.getKey(), Collections.emptyList()), state);
+            for (Map.Entry<String, List<Class<?>>> root : entry.getValue().entrySet()) {
+                for (Class<?> type : root.getValue()) {
+                    mappings.registerLazyConfigMapping(type, root.getKey(), lazyRoots);
+                }
+            }
+        }
     }
 
-    private boolean isPropertyInRoot(NameIterator propertyName) {
-        final Set<String> registeredRoots = roots.keySet();
-        for (String registeredRoot : registeredRoots) {
-            // match everything
-            if (registeredRoot.length() == 0) {
-                return true;
-            }
+    /**
+     * Groups the registered roots by the shortest registered root that is a prefix of their path. Roots in different
+     * groups never share a property name or a mapping object.
+     */
+    private Map<String, Map<String, List<Class<?>>>> getPartitionRoots() {
+        Map<String, Map<String, List<Class<?>>>> partitionRoots = new HashMap<>();
+        for (Map.Entry<String, List<Class<?>>> entry : roots.entrySet()) {
+            String partition = findRoot(new NameIterator(entry.getKey()), false);
+            partitionRoots.computeIfAbsent(partition, k -> new HashMap<>()).put(entry.getKey(), entry.getValue());
+        }
+        return partitionRoots;
+    }
 
-            // A sub property from a namespace is always bigger in length
-            if (propertyName.getName().length() <= registeredRoot.length()) {
-                continue;
-            }
+    boolean isPropertyInRoot(NameIterator propertyName) {
+        return findRoot(propertyName, true) != null;
+    }
 
-            final NameIterator root = new NameIterator(registeredRoot);
-            // compare segments
-            while (root.hasNext()) {
-                String segment = root.getNextSegment();
-                if (!propertyName.hasNext()) {
-                    propertyName.goToStart();
-                    break;
-                }
+    /**
+     * Finds the shortest registered root that is a prefix of a name.
+     *
+     * @param name the name to look up
+     * @param subProperty {@code true} if the name must have more segments than the root
+     * @return the registered root, or {@code null} if no registered root matches
+     */
+    private String findRoot(NameIterator name, boolean subProperty) {
+        // match everything
+        if (rootsIndex.hasRootValue()) {
+            return rootsIndex.getRootValue();
+        }
 
-                final String nextSegment = propertyName.getNextSegment();
-                if (!segment.equals(normalizeIfIndexed(nextSegment))) {
-                    propertyName.goToStart();
-                    break;
+        // walk the segments of the name in the roots index, until a root is matched
+        KeyMap<String> rootIndex = rootsIndex;
+        try {
+            while (name.hasNext()) {
+                rootIndex = rootIndex.get(normalizeIfIndexed(name.getNextSegment()));
+                if (rootIndex == null) {
+                    return null;
                 }
-
-                root.next();
-                propertyName.next();
+                name.next();
 
                 // root has no more segments and we reached this far so everything matched.
                 // on top, property still has more segments to do the mapping.
-                if (!root.hasNext() && propertyName.hasNext()) {
-                    propertyName.goToStart();
-                    return true;
+                if (rootIndex.hasRootValue() && (!subProperty || name.hasNext())) {
+                    return rootIndex.getRootValue();
                 }
             }
+            return null;
+        } finally {
+            name.goToStart();
         }
-
-        return false;
     }
 
     private static String normalizeIfIndexed(final String propertyName) {
@@ -944,25 +1335,27 @@ final class ConfigMappingProvider implements Serializable {
     }
 
     private static void unknownProperties(Set<String> properties, ConfigMappingContext context) {
+        if (properties.isEmpty()) {
+            return;
+        }
+
+        // used properties by their sanitized and uppercased name, so an unknown property written in the
+        // environment variables format matches the property that was used with a single hash lookup
         Set<String> usedProperties = new HashSet<>();
         for (String property : context.getConfig().getPropertyNames()) {
             if (properties.contains(property)) {
                 continue;
             }
 
-            usedProperties.add(replaceNonAlphanumericByUnderscores(property));
+            String usedProperty = replaceNonAlphanumericByUnderscores(property);
+            if (properties.contains(usedProperty)) {
+                continue;
+            }
+            usedProperties.add(usedProperty.toUpperCase(Locale.ROOT));
         }
-        usedProperties.removeAll(properties);
 
         for (String property : properties) {
-            boolean found = false;
-            for (String usedProperty : usedProperties) {
-                if (usedProperty.equalsIgnoreCase(replaceNonAlphanumericByUnderscores(property))) {
-                    found = true;
-                    break;
-                }
-            }
-            if (!found) {
+            if (!usedProperties.contains(replaceNonAlphanumericByUnderscores(property).toUpperCase(Locale.ROOT))) {
                 context.unknownConfigElement(property);
             }
         }
@@ -973,6 +1366,8 @@ final class ConfigMappingProvider implements Serializable {
         final Map<String, List<Class<?>>> roots = new HashMap<>();
         final List<String[]> ignored = new ArrayList<>();
         boolean validateUnknown = true;
+        boolean parallel = false;
+        boolean lazy = false;
 
         Builder() {
         }
@@ -996,6 +1391,16 @@ final class ConfigMappingProvider implements Serializable {
             return this;
         }
 
+        public Builder parallel(boolean parallel) {
+            this.parallel = parallel;
+            return this;
+        }
+
+        public Builder lazy(boolean lazy) {
+            this.lazy = lazy;
+            return this;
+        }
+
         public ConfigMappingProvider build() {
             // We don't validate for MP ConfigProperties, so if all classes are MP ConfigProperties disable validation.
             boolean allConfigurationProperties = true;
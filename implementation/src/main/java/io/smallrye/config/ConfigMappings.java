@@ -5,6 +5,7 @@ import static io.smallrye.config.SmallRyeConfig.SMALLRYE_CONFIG_MAPPING_VALIDATE
 import static java.lang.Boolean.TRUE;
 
 import java.io.Serializable;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
@@ -21,16 +22,35 @@ public final class ConfigMappings implements Serializable {
 
     private final ConfigValidator configValidator;
     private final ConcurrentMap<Class<?>, Map<String, ConfigMappingObject>> mappings;
+    private final ConcurrentMap<Class<?>, ConcurrentMap<String, Validation>> validations;
+    private final transient ConcurrentMap<Class<?>, Map<String, ConfigMappingProvider.LazyRoots>> lazyMappings;
 
     ConfigMappings(final ConfigValidator configValidator) {
         this.configValidator = configValidator;
         this.mappings = new ConcurrentHashMap<>();
+        this.validations = new ConcurrentHashMap<>();
+        this.lazyMappings = new ConcurrentHashMap<>();
     }
 
     void registerConfigMappings(final Map<Class<?>, Map<String, ConfigMappingObject>> mappings) {
         this.mappings.putAll(mappings);
     }
 
+    void registerLazyConfigMapping(final Class<?> type, final String prefix, final ConfigMappingProvider.LazyRoots roots) {
+        lazyMappings.computeIfAbsent(type, k -> new ConcurrentHashMap<>()).put(prefix, roots);
+    }
+
+    void registerLazyConfigMappings(final Map<Class<?>, Map<String, ConfigMappingObject>> mappings) {
+        // lazy roots of the same type may be mapped at different times, so merge instead of replacing
+        for (Map.Entry<Class<?>, Map<String, ConfigMappingObject>> entry : mappings.entrySet()) {
+            this.mappings.merge(entry.getKey(), entry.getValue(), (current, mapped) -> {
+                Map<String, ConfigMappingObject> merged = new HashMap<>(current);
+                merged.putAll(mapped);
+                return merged;
+            });
+        }
+    }
+
     public static void registerConfigMappings(final SmallRyeConfig config, final Set<ConfigClassWithPrefix> configClasses)
             throws ConfigValidationException {
         if (!configClasses.isEmpty()) {
@@ -53,7 +73,7 @@ public final class ConfigMappings implements Serializable {
                 .addRoot(configClass.getPrefix(), configClass.getKlass())
                 .build();
 
-        return provider.getProperties();
+        return new HashMap<>(provider.getProperties());
     }
 
     public static Set<String> mappedProperties(final ConfigClassWithPrefix configClass, final Set<String> properties) {
@@ -64,7 +84,8 @@ public final class ConfigMappings implements Serializable {
 
         Set<String> mappedProperties = new HashSet<>();
         for (String property : properties) {
-            if (provider.getMatchActions().findRootValue(new NameIterator(property)) != null) {
+            NameIterator name = new NameIterator(property);
+            if (provider.isPropertyInRoot(name) && provider.getMatchActions().findRootValue(name) != null) {
                 mappedProperties.add(property);
             }
         }
@@ -95,7 +116,17 @@ public final class ConfigMappings implements Serializable {
             return getConfigMapping(type);
         }
 
-        final Map<String, ConfigMappingObject> mappingsForType = mappings.get(getConfigMappingClass(type));
+        final Class<?> mappingClass = getConfigMappingClass(type);
+        Map<String, ConfigMappingObject> mappingsForType = mappings.get(mappingClass);
+        if ((mappingsForType == null || !mappingsForType.containsKey(prefix)) && lazyMappings != null) {
+            final Map<String, ConfigMappingProvider.LazyRoots> lazyMappingsForType = lazyMappings.get(mappingClass);
+            final ConfigMappingProvider.LazyRoots lazyRoots = lazyMappingsForType != null ? lazyMappingsForType.get(prefix)
+                    : null;
+            if (lazyRoots != null) {
+                lazyRoots.map();
+                mappingsForType = mappings.get(mappingClass);
+            }
+        }
         if (mappingsForType == null) {
             throw ConfigMessages.msg.mappingNotFound(type.getName());
         }
@@ -110,7 +141,23 @@ public final class ConfigMappings implements Serializable {
             value = ((ConfigMappingClassMapper) configMappingObject).map();
         }
 
-        configValidator.validateMapping(type, prefix, value);
+        // mapping objects do not change, so the validation outcome is kept until the mapping is registered again
+        final ConcurrentMap<String, Validation> validationsForType = validations.computeIfAbsent(type,
+                k -> new ConcurrentHashMap<>());
+        Validation validation = validationsForType.get(prefix);
+        if (validation == null || validation.mappingObject != configMappingObject) {
+            try {
+                configValidator.validateMapping(type, prefix, value);
+                validation = new Validation(configMappingObject, null);
+            } catch (ConfigValidationException e) {
+                validation = new Validation(configMappingObject, e);
+            }
+            validationsForType.put(prefix, validation);
+        }
+
+        if (validation.exception != null) {
+            throw validation.exception;
+        }
 
         return type.cast(value);
     }
@@ -120,6 +167,18 @@ public final class ConfigMappings implements Serializable {
         return configMapping != null ? configMapping.prefix() : "";
     }
 
+    private static final class Validation implements Serializable {
+        private static final long serialVersionUID = 4412880224406624045L;
+
+        private final ConfigMappingObject mappingObject;
+        private final ConfigValidationException exception;
+
+        Validation(final ConfigMappingObject mappingObject, final ConfigValidationException exception) {
+            this.mappingObject = mappingObject;
+            this.exception = exception;
+        }
+    }
+
     public static final class ConfigClassWithPrefix {
         private final Class<?> klass;
         private final String prefix;
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.Map;
 
 import io.smallrye.config.common.utils.ConfigSourceUtil;
@@ -13,6 +14,12 @@ public class ConfigValuePropertiesConfigSource extends MapBackedConfigValueConfi
 
     private static final String NAME_PREFIX = "ConfigValuePropertiesConfigSource[source=";
 
+    /**
+     * The values of a source built from a {@code Map} of strings, read directly by {@link #getValue(String)} instead of
+     * through the {@link ConfigValue} view of the map.
+     */
+    private final Map<String, String> values;
+
     public ConfigValuePropertiesConfigSource(URL url) throws IOException {
         this(url, DEFAULT_ORDINAL);
     }
@@ -23,12 +30,19 @@ public class ConfigValuePropertiesConfigSource extends MapBackedConfigValueConfi
 
     private ConfigValuePropertiesConfigSource(URL url, String name, int defaultOrdinal) throws IOException {
         super(name, urlToConfigValueMap(url, name, defaultOrdinal));
+        this.values = null;
     }
 
     public ConfigValuePropertiesConfigSource(Map<String, String> properties, String name, int defaultOrdinal) {
         super(NAME_PREFIX + name + "]",
                 new ConfigValueMapStringView(properties, name, ConfigSourceUtil.getOrdinalFromMap(properties, defaultOrdinal)),
                 defaultOrdinal);
+        this.values = Collections.unmodifiableMap(properties);
+    }
+
+    @Override
+    public String getValue(final String propertyName) {
+        return values != null ? values.get(propertyName) : super.getValue(propertyName);
     }
 
     private static Map<String, ConfigValue> urlToConfigValueMap(URL locationOfProperties, String name, int ordinal)
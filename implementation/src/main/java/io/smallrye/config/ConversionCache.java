@@ -0,0 +1,118 @@
+package io.smallrye.config;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.microprofile.config.spi.Converter;
+
+/**
+ * A cache of converted values, by property name and {@link Converter} instance. A cached value is only used while the
+ * raw value of the property is the same as the one it was converted from, so a change in the configuration sources
+ * replaces it on the next lookup.
+ * <p>
+ *
+ * Arrays and {@link Collection} values are mutable, so they are never cached, and each lookup converts them again.
+ * Other values are shared by all the callers.
+ * <p>
+ *
+ * The cache is bounded. When it is full, the entries are evicted in the order they were added. The lookups of cached
+ * values do not lock, but adding a value and evicting the eldest ones are done together under a lock.
+ */
+final class ConversionCache {
+    private final int maximumSize;
+    private final Map<Key, Conversion> conversions = new ConcurrentHashMap<>();
+    private final Queue<Key> insertionOrder = new ArrayDeque<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    ConversionCache(final int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T convert(final SmallRyeConfig config, final String name, final String value, final Converter<T> converter) {
+        final Key key = new Key(name, converter);
+        final Conversion conversion = conversions.get(key);
+        if (conversion != null && conversion.value.equals(value)) {
+            hits.increment();
+            return (T) conversion.converted;
+        }
+
+        misses.increment();
+        // a failed conversion throws and is not cached
+        final T converted = config.convertValue(name, value, converter);
+        if (isMutable(converted)) {
+            return converted;
+        }
+
+        synchronized (insertionOrder) {
+            // every cached key is in the insertion order, so the loop always gets back under the maximum size
+            if (conversions.put(key, new Conversion(value, converted)) == null) {
+                insertionOrder.add(key);
+            }
+            while (conversions.size() > maximumSize) {
+                conversions.remove(insertionOrder.remove());
+            }
+        }
+        return converted;
+    }
+
+    private static boolean isMutable(final Object converted) {
+        return converted != null && (converted.getClass().isArray() || converted instanceof Collection);
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+
+    int size() {
+        return conversions.size();
+    }
+
+    private static final class Key {
+        private final String name;
+        private final Converter<?> converter;
+        private final int hashCode;
+
+        Key(final String name, final Converter<?> converter) {
+            this.name = name;
+            this.converter = converter;
+            this.hashCode = 31 * name.hashCode() + System.identityHashCode(converter);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key that = (Key) o;
+            return converter == that.converter && name.equals(that.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class Conversion {
+        private final String value;
+        private final Object converted;
+
+        Conversion(final String value, final Object converted) {
+            this.value = value;
+            this.converted = converted;
+        }
+    }
+}
@@ -58,18 +58,19 @@ public final class Converters {
 
     static final Converter<String> STRING_CONVERTER = BuiltInConverter.of(0, newEmptyValueConverter(value -> value));
 
+    static final BooleanConverter PRIMITIVE_BOOLEAN_CONVERTER = value -> "TRUE".equalsIgnoreCase(value)
+            || "1".equalsIgnoreCase(value)
+            || "YES".equalsIgnoreCase(value)
+            || "Y".equalsIgnoreCase(value)
+            || "ON".equalsIgnoreCase(value)
+            || "JA".equalsIgnoreCase(value)
+            || "J".equalsIgnoreCase(value)
+            || "SI".equalsIgnoreCase(value)
+            || "SIM".equalsIgnoreCase(value)
+            || "OUI".equalsIgnoreCase(value);
+
     static final Converter<Boolean> BOOLEAN_CONVERTER = BuiltInConverter.of(1, newTrimmingConverter(newEmptyValueConverter(
-            value -> Boolean.valueOf(
-                    "TRUE".equalsIgnoreCase(value)
-                            || "1".equalsIgnoreCase(value)
-                            || "YES".equalsIgnoreCase(value)
-                            || "Y".equalsIgnoreCase(value)
-                            || "ON".equalsIgnoreCase(value)
-                            || "JA".equalsIgnoreCase(value)
-                            || "J".equalsIgnoreCase(value)
-                            || "SI".equalsIgnoreCase(value)
-                            || "SIM".equalsIgnoreCase(value)
-                            || "OUI".equalsIgnoreCase(value)))));
+            value -> Boolean.valueOf(PRIMITIVE_BOOLEAN_CONVERTER.convertBoolean(value)))));
 
     static final Converter<Double> DOUBLE_CONVERTER = BuiltInConverter.of(2,
             newTrimmingConverter(newEmptyValueConverter(value -> {
@@ -107,6 +108,38 @@ public final class Converters {
                 }
             })));
 
+    static final IntConverter PRIMITIVE_INT_CONVERTER = value -> {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException nfe) {
+            throw ConfigMessages.msg.integerExpected(value);
+        }
+    };
+
+    static final LongConverter PRIMITIVE_LONG_CONVERTER = value -> {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException nfe) {
+            throw ConfigMessages.msg.longExpected(value);
+        }
+    };
+
+    static final DoubleConverter PRIMITIVE_DOUBLE_CONVERTER = value -> {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException nfe) {
+            throw ConfigMessages.msg.doubleExpected(value);
+        }
+    };
+
+    static final Converter<boolean[]> BOOLEAN_ARRAY_CONVERTER = new BooleanArrayConverter(PRIMITIVE_BOOLEAN_CONVERTER);
+
+    static final Converter<int[]> INT_ARRAY_CONVERTER = new IntArrayConverter(PRIMITIVE_INT_CONVERTER);
+
+    static final Converter<long[]> LONG_ARRAY_CONVERTER = new LongArrayConverter(PRIMITIVE_LONG_CONVERTER);
+
+    static final Converter<double[]> DOUBLE_ARRAY_CONVERTER = new DoubleArrayConverter(PRIMITIVE_DOUBLE_CONVERTER);
+
     static final Converter<Class<?>> CLASS_CONVERTER = BuiltInConverter.of(6,
             newTrimmingConverter(newEmptyValueConverter(value -> {
                 try {
@@ -296,10 +329,21 @@ public final class Converters {
      * @param <A> the array type
      * @return the new converter (not {@code null})
      */
+    @SuppressWarnings("unchecked")
     public static <A, T> Converter<A> newArrayConverter(Converter<? extends T> itemConverter, Class<A> arrayType) {
         if (!arrayType.isArray()) {
             throw ConfigMessages.msg.notArrayType(arrayType.toString());
         }
+        // the built-in converters of the primitive arrays parse each item without boxing it
+        if (arrayType == boolean[].class && itemConverter == BOOLEAN_CONVERTER) {
+            return (Converter<A>) BOOLEAN_ARRAY_CONVERTER;
+        } else if (arrayType == int[].class && itemConverter == INTEGER_CONVERTER) {
+            return (Converter<A>) INT_ARRAY_CONVERTER;
+        } else if (arrayType == long[].class && itemConverter == LONG_CONVERTER) {
+            return (Converter<A>) LONG_ARRAY_CONVERTER;
+        } else if (arrayType == double[].class && itemConverter == DOUBLE_CONVERTER) {
+            return (Converter<A>) DOUBLE_ARRAY_CONVERTER;
+        }
         return new ArrayConverter<>(itemConverter, arrayType);
     }
 
@@ -718,14 +762,13 @@ public final class Converters {
                 // empty collection
                 return null;
             }
-            final String[] itemStrings = StringUtil.split(str);
-            final C collection = collectionFactory.apply(itemStrings.length);
-            for (String itemString : itemStrings) {
-                if (!itemString.isEmpty()) {
-                    final T item = getDelegate().convert(itemString);
-                    if (item != null) {
-                        collection.add(item);
-                    }
+            final C collection = collectionFactory.apply(StringUtil.maxItems(str));
+            final StringUtil.Tokenizer tokenizer = new StringUtil.Tokenizer(str);
+            String itemString;
+            while ((itemString = tokenizer.next()) != null) {
+                final T item = getDelegate().convert(itemString);
+                if (item != null) {
+                    collection.add(item);
                 }
             }
             return collection.isEmpty() ? null : collection;
@@ -751,18 +794,24 @@ public final class Converters {
                 // empty array
                 return null;
             }
-            final String[] itemStrings = StringUtil.split(str);
-            final A array = arrayType.cast(Array.newInstance(arrayType.getComponentType(), itemStrings.length));
+            final int length = StringUtil.maxItems(str);
+            final A array = arrayType.cast(Array.newInstance(arrayType.getComponentType(), length));
+            // an array of references is filled directly, only an array of primitives needs Array.set to unbox
+            final Object[] objects = array instanceof Object[] ? (Object[]) array : null;
+            final StringUtil.Tokenizer tokenizer = new StringUtil.Tokenizer(str);
             int size = 0;
-            for (String itemString : itemStrings) {
-                if (!itemString.isEmpty()) {
-                    final T item = getDelegate().convert(itemString);
-                    if (item != null) {
+            String itemString;
+            while ((itemString = tokenizer.next()) != null) {
+                final T item = getDelegate().convert(itemString);
+                if (item != null) {
+                    if (objects != null) {
+                        objects[size++] = item;
+                    } else {
                         Array.set(array, size++, item);
                     }
                 }
             }
-            return size == 0 ? null : size < itemStrings.length ? copyArray(array, arrayType, size) : array;
+            return size == 0 ? null : size < length ? copyArray(array, arrayType, size) : array;
         }
 
         private static <A> A copyArray(A array, Class<A> arrayType, int newSize) {
@@ -790,6 +839,162 @@ public final class Converters {
         }
     }
 
+    /**
+     * A converter of a single value to a {@code boolean}, without boxing it.
+     */
+    @FunctionalInterface
+    interface BooleanConverter extends Serializable {
+        boolean convertBoolean(String value);
+    }
+
+    /**
+     * A converter of a single value to an {@code int}, without boxing it.
+     */
+    @FunctionalInterface
+    interface IntConverter extends Serializable {
+        int convertInt(String value);
+    }
+
+    /**
+     * A converter of a single value to a {@code long}, without boxing it.
+     */
+    @FunctionalInterface
+    interface LongConverter extends Serializable {
+        long convertLong(String value);
+    }
+
+    /**
+     * A converter of a single value to a {@code double}, without boxing it.
+     */
+    @FunctionalInterface
+    interface DoubleConverter extends Serializable {
+        double convertDouble(String value);
+    }
+
+    /**
+     * Converts a comma-separated string into a {@code boolean[]}. Items are trimmed and empty items are skipped, like
+     * {@link ArrayConverter} with {@link #BOOLEAN_CONVERTER}.
+     */
+    static final class BooleanArrayConverter extends AbstractConverter<boolean[]> {
+        private static final long serialVersionUID = 6263614713290773214L;
+
+        private final BooleanConverter converter;
+
+        BooleanArrayConverter(final BooleanConverter converter) {
+            this.converter = converter;
+        }
+
+        public boolean[] convert(final String str) {
+            if (str.isEmpty()) {
+                return null;
+            }
+            final boolean[] array = new boolean[StringUtil.maxItems(str)];
+            final StringUtil.Tokenizer tokenizer = new StringUtil.Tokenizer(str);
+            int size = 0;
+            String itemString;
+            while ((itemString = tokenizer.next()) != null) {
+                final String item = itemString.trim();
+                if (!item.isEmpty()) {
+                    array[size++] = converter.convertBoolean(item);
+                }
+            }
+            return size == 0 ? null : size < array.length ? Arrays.copyOf(array, size) : array;
+        }
+    }
+
+    /**
+     * Converts a comma-separated string into an {@code int[]}. Items are trimmed and empty items are skipped, like
+     * {@link ArrayConverter} with {@link #INTEGER_CONVERTER}.
+     */
+    static final class IntArrayConverter extends AbstractConverter<int[]> {
+        private static final long serialVersionUID = -1803307297938209441L;
+
+        private final IntConverter converter;
+
+        IntArrayConverter(final IntConverter converter) {
+            this.converter = converter;
+        }
+
+        public int[] convert(final String str) {
+            if (str.isEmpty()) {
+                return null;
+            }
+            final int[] array = new int[StringUtil.maxItems(str)];
+            final StringUtil.Tokenizer tokenizer = new StringUtil.Tokenizer(str);
+            int size = 0;
+            String itemString;
+            while ((itemString = tokenizer.next()) != null) {
+                final String item = itemString.trim();
+                if (!item.isEmpty()) {
+                    array[size++] = converter.convertInt(item);
+                }
+            }
+            return size == 0 ? null : size < array.length ? Arrays.copyOf(array, size) : array;
+        }
+    }
+
+    /**
+     * Converts a comma-separated string into a {@code long[]}. Items are trimmed and empty items are skipped, like
+     * {@link ArrayConverter} with {@link #LONG_CONVERTER}.
+     */
+    static final class LongArrayConverter extends AbstractConverter<long[]> {
+        private static final long serialVersionUID = 4283452958624372437L;
+
+        private final LongConverter converter;
+
+        LongArrayConverter(final LongConverter converter) {
+            this.converter = converter;
+        }
+
+        public long[] convert(final String str) {
+            if (str.isEmpty()) {
+                return null;
+            }
+            final long[] array = new long[StringUtil.maxItems(str)];
+            final StringUtil.Tokenizer tokenizer = new StringUtil.Tokenizer(str);
+            int size = 0;
+            String itemString;
+            while ((itemString = tokenizer.next()) != null) {
+                final String item = itemString.trim();
+                if (!item.isEmpty()) {
+                    array[size++] = converter.convertLong(item);
+                }
+            }
+            return size == 0 ? null : size < array.length ? Arrays.copyOf(array, size) : array;
+        }
+    }
+
+    /**
+     * Converts a comma-separated string into a {@code double[]}. Items are trimmed and empty items are skipped, like
+     * {@link ArrayConverter} with {@link #DOUBLE_CONVERTER}.
+     */
+    static final class DoubleArrayConverter extends AbstractConverter<double[]> {
+        private static final long serialVersionUID = -6617417398473536725L;
+
+        private final DoubleConverter converter;
+
+        DoubleArrayConverter(final DoubleConverter converter) {
+            this.converter = converter;
+        }
+
+        public double[] convert(final String str) {
+            if (str.isEmpty()) {
+                return null;
+            }
+            final double[] array = new double[StringUtil.maxItems(str)];
+            final StringUtil.Tokenizer tokenizer = new StringUtil.Tokenizer(str);
+            int size = 0;
+            String itemString;
+            while ((itemString = tokenizer.next()) != null) {
+                final String item = itemString.trim();
+                if (!item.isEmpty()) {
+                    array[size++] = converter.convertDouble(item);
+                }
+            }
+            return size == 0 ? null : size < array.length ? Arrays.copyOf(array, size) : array;
+        }
+    }
+
     static final class OptionalConverter<T> extends AbstractDelegatingConverter<T, Optional<T>> {
         private static final long serialVersionUID = -4051551570591834428L;
 
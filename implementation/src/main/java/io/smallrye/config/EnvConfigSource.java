@@ -35,21 +35,48 @@ public class EnvConfigSource extends MapBackedConfigSource {
 
     private static final int DEFAULT_ORDINAL = 300;
 
+    private final EnvNameIndex names;
+
     protected EnvConfigSource() {
         this(DEFAULT_ORDINAL);
     }
 
     protected EnvConfigSource(final int ordinal) {
-        this(getEnvProperties(), ordinal);
+        this(getEnvProperties(), ordinal, false);
     }
 
+    /**
+     * Construct a new instance with a copy of the given map, so the names indexed for the lookups never go out of
+     * sync with the properties.
+     *
+     * @param propertyMap the environment variables
+     * @param ordinal the default ordinal to use if one is not given in the map
+     */
     public EnvConfigSource(final Map<String, String> propertyMap, final int ordinal) {
-        super("EnvConfigSource", propertyMap, getEnvOrdinal(propertyMap, ordinal));
+        this(propertyMap, ordinal, true);
+    }
+
+    private EnvConfigSource(final Map<String, String> propertyMap, final int ordinal, final boolean copy) {
+        super("EnvConfigSource", propertyMap, getEnvOrdinal(propertyMap, ordinal), copy);
+        this.names = new EnvNameIndex(getProperties().keySet());
     }
 
     @Override
     public String getValue(final String propertyName) {
-        return getValue(propertyName, getProperties());
+        if (propertyName == null) {
+            return null;
+        }
+
+        final Map<String, String> properties = getProperties();
+        // exact match
+        final String value = properties.get(propertyName);
+        if (value != null) {
+            return value;
+        }
+
+        // replace non-alphanumeric characters by underscores, and then convert to uppercase, without the copies
+        final String name = names.get(propertyName);
+        return name != null ? properties.get(name) : null;
     }
 
     private static String getValue(final String name, final Map<String, String> properties) {
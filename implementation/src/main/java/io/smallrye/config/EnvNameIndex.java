@@ -0,0 +1,97 @@
+package io.smallrye.config;
+
+import java.io.Serializable;
+import java.util.Collection;
+
+/**
+ * An index of environment variable names by their canonical form, which is the name with all non-alphanumeric
+ * characters replaced by underscores and converted to uppercase. For instance, <code>FOO_BAR</code>,
+ * <code>foo_bar</code> and <code>foo.bar</code> all share the canonical form <code>FOO_BAR</code>.
+ * <p>
+ *
+ * The canonical form is never materialized. The hash and the comparisons are computed over the characters of the
+ * looked up name, so a lookup does not allocate.
+ */
+final class EnvNameIndex implements Serializable {
+    private static final long serialVersionUID = -6839553432424717457L;
+
+    private final String[] names;
+    private final int[] hashes;
+    private final int[] next;
+    private final int[] buckets;
+
+    EnvNameIndex(final Collection<String> names) {
+        int size = names.size();
+        int capacity = Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1;
+        this.names = new String[size];
+        this.hashes = new int[size];
+        this.next = new int[size];
+        this.buckets = new int[capacity];
+
+        int i = 0;
+        for (String name : names) {
+            int hash = hash(name);
+            int bucket = hash & (capacity - 1);
+            this.names[i] = name;
+            this.hashes[i] = hash;
+            // bucket entries are stored as index + 1, so 0 means empty
+            this.next[i] = buckets[bucket];
+            this.buckets[bucket] = i + 1;
+            i++;
+        }
+    }
+
+    /**
+     * Finds an environment variable name that is equal to the given name after replacing all non-alphanumeric
+     * characters by underscores, or if none exists, equal to it after also converting it to uppercase.
+     *
+     * @param name the name to look up
+     * @return the environment variable name, or {@code null} if no name matches
+     */
+    String get(final String name) {
+        final int hash = hash(name);
+        String uppercase = null;
+        for (int i = buckets[hash & (buckets.length - 1)]; i != 0; i = next[i - 1]) {
+            if (hashes[i - 1] == hash) {
+                final String candidate = names[i - 1];
+                if (equalsSanitized(name, candidate, false)) {
+                    return candidate;
+                }
+                if (uppercase == null && equalsSanitized(name, candidate, true)) {
+                    uppercase = candidate;
+                }
+            }
+        }
+        return uppercase;
+    }
+
+    private static int hash(final String name) {
+        int hash = 0;
+        for (int i = 0; i < name.length(); i++) {
+            hash = 31 * hash + canonical(name.charAt(i));
+        }
+        return hash;
+    }
+
+    private static boolean equalsSanitized(final String name, final String envName, final boolean uppercase) {
+        final int length = name.length();
+        if (length != envName.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            final char c = uppercase ? canonical(name.charAt(i)) : sanitize(name.charAt(i));
+            if (c != envName.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char sanitize(final char c) {
+        return 'a' <= c && c <= 'z' || 'A' <= c && c <= 'Z' || '0' <= c && c <= '9' ? c : '_';
+    }
+
+    private static char canonical(final char c) {
+        return 'a' <= c && c <= 'z' ? (char) (c - ('a' - 'A')) : sanitize(c);
+    }
+}
@@ -4,7 +4,10 @@ import static io.smallrye.common.expression.Expression.Flag.LENIENT_SYNTAX;
 import static io.smallrye.common.expression.Expression.Flag.NO_SMART_BRACES;
 import static io.smallrye.common.expression.Expression.Flag.NO_TRIM;
 
+import java.io.Serializable;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.annotation.Priority;
 
@@ -13,15 +16,18 @@ import org.eclipse.microprofile.config.Config;
 import io.smallrye.common.expression.Expression;
 
 @Priority(Priorities.LIBRARY + 300)
-public class ExpressionConfigSourceInterceptor implements ConfigSourceInterceptor {
+public class ExpressionConfigSourceInterceptor implements ConfigSourceInterceptor, RawValueInterceptor {
     private static final long serialVersionUID = -539336551011916218L;
 
     private static final int MAX_DEPTH = 32;
+    private static final int DEFAULT_CACHE_SIZE = 1024;
 
     private final boolean enabled;
+    private final ExpressionCache cache;
 
     public ExpressionConfigSourceInterceptor() {
         this.enabled = true;
+        this.cache = new ExpressionCache(DEFAULT_CACHE_SIZE);
     }
 
     public ExpressionConfigSourceInterceptor(final ConfigSourceInterceptorContext context) {
@@ -29,6 +35,7 @@ public class ExpressionConfigSourceInterceptor implements ConfigSourceIntercepto
                 .map(ConfigValue::getValue)
                 .map(Boolean::valueOf)
                 .orElse(Boolean.TRUE);
+        this.cache = new ExpressionCache(DEFAULT_CACHE_SIZE);
     }
 
     @Override
@@ -36,6 +43,15 @@ public class ExpressionConfigSourceInterceptor implements ConfigSourceIntercepto
         return getValue(context, name, 1);
     }
 
+    @Override
+    public String getRawValue(final ConfigSourceInterceptorContext context, final String name) {
+        final String value = RawValueInterceptor.proceedRaw(context, name);
+        if (value == null || value.indexOf('$') == -1 || !Expressions.isEnabled() || !enabled) {
+            return value;
+        }
+        return expand(context, name, value, 1);
+    }
+
     private ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name, final int depth) {
         if (depth == MAX_DEPTH) {
             throw ConfigMessages.msg.expressionExpansionTooDepth(name);
@@ -51,20 +67,49 @@ public class ExpressionConfigSourceInterceptor implements ConfigSourceIntercepto
             return null;
         }
 
-        final Expression expression = Expression.compile(escapeDollarIfExists(configValue.getValue()), LENIENT_SYNTAX, NO_TRIM,
-                NO_SMART_BRACES);
-        final String expanded = expression.evaluate((resolveContext, stringBuilder) -> {
+        // Without a dollar there is nothing to expand or to unescape
+        final String value = configValue.getValue();
+        if (value == null || value.indexOf('$') == -1) {
+            return configValue;
+        }
+
+        return configValue.withValue(expand(context, configValue.getName(), value, depth));
+    }
+
+    private String expand(final ConfigSourceInterceptorContext context, final String name, final String value,
+            final int depth) {
+        final Expression expression = cache.get(value);
+        return expression.evaluate((resolveContext, stringBuilder) -> {
             final ConfigValue resolve = getValue(context, resolveContext.getKey(), depth + 1);
             if (resolve != null) {
                 stringBuilder.append(resolve.getValue());
             } else if (resolveContext.hasDefault()) {
                 resolveContext.expandDefault();
             } else {
-                throw ConfigMessages.msg.expandingElementNotFound(resolveContext.getKey(), configValue.getName());
+                throw ConfigMessages.msg.expandingElementNotFound(resolveContext.getKey(), name);
             }
         });
+    }
+
+    /**
+     * @return the number of lookups that found the compiled {@link Expression} in the cache
+     */
+    public long getCacheHits() {
+        return cache.hits.sum();
+    }
+
+    /**
+     * @return the number of lookups that had to compile the {@link Expression}
+     */
+    public long getCacheMisses() {
+        return cache.misses.sum();
+    }
 
-        return configValue.withValue(expanded);
+    /**
+     * @return the number of compiled {@link Expression} currently cached
+     */
+    public int getCacheSize() {
+        return cache.expressions.size();
     }
 
     /**
@@ -74,7 +119,7 @@ public class ExpressionConfigSourceInterceptor implements ConfigSourceIntercepto
      * This will replace the expected escape in MicroProfile Config by the escape used in {@link Expression}, a double
      * dollar.
      */
-    private String escapeDollarIfExists(final String value) {
+    private static String escapeDollarIfExists(final String value) {
         int index = value.indexOf("\\$");
         if (index != -1) {
             int start = 0;
@@ -89,4 +134,44 @@ public class ExpressionConfigSourceInterceptor implements ConfigSourceIntercepto
         }
         return value;
     }
+
+    /**
+     * A bounded cache of compiled {@link Expression}, keyed by the raw value. Once the cache is full, new values are
+     * compiled on each lookup and not cached, so a handful of dynamic values cannot evict the stable ones.
+     */
+    static final class ExpressionCache implements Serializable {
+        private static final long serialVersionUID = 2563096133446539340L;
+
+        private final int maxSize;
+        private final transient ConcurrentHashMap<String, Expression> expressions = new ConcurrentHashMap<>();
+        private final transient LongAdder hits = new LongAdder();
+        private final transient LongAdder misses = new LongAdder();
+
+        ExpressionCache(final int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        Expression get(final String value) {
+            Expression expression = expressions.get(value);
+            if (expression != null) {
+                hits.increment();
+                return expression;
+            }
+
+            misses.increment();
+            expression = compile(value);
+            if (expressions.size() < maxSize) {
+                expressions.putIfAbsent(value, expression);
+            }
+            return expression;
+        }
+
+        private static Expression compile(final String value) {
+            return Expression.compile(escapeDollarIfExists(value), LENIENT_SYNTAX, NO_TRIM, NO_SMART_BRACES);
+        }
+
+        Object readResolve() {
+            return new ExpressionCache(maxSize);
+        }
+    }
 }
@@ -34,4 +34,24 @@ public final class Expressions {
             return supplier.get();
         }
     }
+
+    public static void withExpansion(final Runnable action) {
+        withExpansion(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public static <T> T withExpansion(Supplier<T> supplier) {
+        if (isEnabled()) {
+            return supplier.get();
+        } else {
+            ENABLE.set(true);
+            try {
+                return supplier.get();
+            } finally {
+                ENABLE.set(false);
+            }
+        }
+    }
 }
@@ -0,0 +1,56 @@
+package io.smallrye.config;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * This interceptor holds the final {@link ConfigValue} of every property name known when the {@link SmallRyeConfig}
+ * is built, so a lookup becomes a single hash probe instead of a walk through the interceptor chain and the sources.
+ *
+ * Names that are not in the table proceed down the chain. This includes names that cannot be listed, like the
+ * dotted version of environment variables, names from sources that do not return their property names, and names
+ * that failed to resolve when the table was built.
+ *
+ * The table is built with secret keys locked, so secret keys, or expressions that reference them, are never part of
+ * the table and are always checked by the {@link SecretKeysConfigSourceInterceptor}. When expansion is disabled with
+ * {@link Expressions#withoutExpansion(Runnable)}, lookups also proceed down the chain, because the table only holds
+ * expanded values.
+ *
+ * Sources are expected to not change after the {@link SmallRyeConfig} is built.
+ */
+class FrozenConfigSourceInterceptor implements ConfigSourceInterceptor {
+    private static final long serialVersionUID = -3174227307437011418L;
+
+    private final Map<String, ConfigValue> values;
+
+    FrozenConfigSourceInterceptor(final ConfigSourceInterceptorContext context) {
+        this.values = SecretKeys.doLocked(() -> {
+            final Map<String, ConfigValue> values = new HashMap<>();
+            final Iterator<String> names = context.iterateNames();
+            while (names.hasNext()) {
+                final String name = names.next();
+                try {
+                    final ConfigValue value = context.proceed(name);
+                    if (value != null) {
+                        values.put(name, value);
+                    }
+                } catch (RuntimeException e) {
+                    // Not frozen. The chain reports the problem if the name is requested.
+                }
+            }
+            return values;
+        });
+    }
+
+    @Override
+    public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name) {
+        if (Expressions.isEnabled()) {
+            final ConfigValue value = values.get(name);
+            if (value != null) {
+                return value;
+            }
+        }
+        return context.proceed(name);
+    }
+}
@@ -17,11 +17,17 @@ package io.smallrye.config;
 
 import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.function.Function;
 
 import org.eclipse.microprofile.config.spi.Converter;
 
@@ -31,6 +37,7 @@ import org.eclipse.microprofile.config.spi.Converter;
  * @author <a href="http://jmesnil.net/">Jeff Mesnil</a> (c) 2017 Red Hat inc.
  */
 class ImplicitConverters {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
 
     private ImplicitConverters() {
     }
@@ -99,27 +106,86 @@ class ImplicitConverters {
                 e.isAccessible();
     }
 
+    /**
+     * Binds a static method or a constructor that takes a single {@code String} or {@code CharSequence} to a
+     * {@link Function}, so a conversion is a direct call instead of a reflective one. When the executable is public and
+     * its class is visible from this class, the function is spun with {@link LambdaMetafactory}, like a method
+     * reference. Otherwise, it invokes a {@link MethodHandle} of the executable.
+     */
+    @SuppressWarnings("unchecked")
+    private static Function<String, Object> bind(final Executable executable) {
+        final MethodHandle target;
+        try {
+            target = executable instanceof Method ? LOOKUP.unreflect((Method) executable)
+                    : LOOKUP.unreflectConstructor((Constructor<?>) executable);
+        } catch (IllegalAccessException e) {
+            throw new IllegalAccessError(e.getMessage());
+        }
+
+        final Class<?> declaringClass = executable.getDeclaringClass();
+        if (Modifier.isPublic(executable.getModifiers()) && Modifier.isPublic(declaringClass.getModifiers())
+                && isVisible(declaringClass)) {
+            try {
+                final CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, "apply",
+                        MethodType.methodType(Function.class), MethodType.methodType(Object.class, Object.class), target,
+                        MethodType.methodType(target.type().returnType(), String.class));
+                return (Function<String, Object>) callSite.getTarget().invokeExact();
+            } catch (Throwable e) {
+                // not accessible to the metafactory, use the method handle
+            }
+        }
+        return new MethodHandleFunction(target);
+    }
+
+    private static boolean isVisible(final Class<?> type) {
+        try {
+            return Class.forName(type.getName(), false, ImplicitConverters.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    static final class MethodHandleFunction implements Function<String, Object> {
+        private final MethodHandle handle;
+
+        MethodHandleFunction(final MethodHandle handle) {
+            this.handle = handle.asType(MethodType.methodType(Object.class, String.class));
+        }
+
+        @Override
+        public Object apply(final String value) {
+            try {
+                return handle.invokeExact(value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new UndeclaredThrowableException(t);
+            }
+        }
+    }
+
     static class StaticMethodConverter<T> implements Converter<T>, Serializable {
 
         private static final long serialVersionUID = 3350265927359848883L;
 
-        private final Class<? extends T> clazz;
         private final Method method;
+        private final transient Function<String, Object> function;
 
         StaticMethodConverter(Class<? extends T> clazz, Method method) {
             assert clazz == method.getReturnType();
-            this.clazz = clazz;
             this.method = method;
+            this.function = bind(method);
         }
 
         @Override
+        @SuppressWarnings("unchecked")
         public T convert(String value) {
             if (value.isEmpty()) {
                 return null;
             }
             try {
-                return clazz.cast(method.invoke(null, value));
-            } catch (IllegalAccessException | InvocationTargetException e) {
+                return (T) function.apply(value);
+            } catch (Exception e) {
                 throw ConfigMessages.msg.staticMethodConverterFailure(e);
             }
         }
@@ -154,19 +220,22 @@ class ImplicitConverters {
         private static final long serialVersionUID = 3350265927359848883L;
 
         private final Constructor<? extends T> ctor;
+        private final transient Function<String, Object> function;
 
         public ConstructorConverter(final Constructor<? extends T> ctor) {
             this.ctor = ctor;
+            this.function = bind(ctor);
         }
 
         @Override
+        @SuppressWarnings("unchecked")
         public T convert(String value) {
             if (value.isEmpty()) {
                 return null;
             }
             try {
-                return ctor.newInstance(value);
-            } catch (IllegalAccessException | InvocationTargetException | InstantiationException e) {
+                return (T) function.apply(value);
+            } catch (Exception e) {
                 throw ConfigMessages.msg.constructorConverterFailure(e);
             }
         }
@@ -0,0 +1,39 @@
+package io.smallrye.config;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
+
+import io.smallrye.common.annotation.Experimental;
+
+/**
+ * Marks a {@link ConfigSource} with a set of property names that may change after the {@link SmallRyeConfig} is
+ * built, like System properties or a remote store.
+ * <p>
+ *
+ * The {@link SmallRyeConfig#getPropertyNames()} are computed once and cached. The cache is invalidated when the
+ * {@link #getPropertyNamesVersion()} of a source implementing this interface changes, or when
+ * {@link SmallRyeConfig#refreshPropertyNames()} is called. Property names from sources that do not implement this
+ * interface are expected to never change.
+ * <p>
+ *
+ * Lookups skip sources that are known to not contain a name. Sources implementing this interface are always queried.
+ */
+@Experimental("Mark a ConfigSource with property names that may change")
+public interface MutableConfigSource extends ConfigSource {
+    /**
+     * The version of a source that cannot tell cheaply if its property names changed. The property names of such a
+     * source are computed again on every lookup.
+     */
+    long UNKNOWN_VERSION = -1;
+
+    /**
+     * Returns a value that changes when the property names of this source change, like a modification counter. It is
+     * checked on every lookup of the property names, so it must be cheap to compute, and never copy or query the
+     * names.
+     *
+     * @return the version of the property names, or {@link #UNKNOWN_VERSION} if this source cannot tell, in which
+     *         case the names are computed again on every lookup
+     */
+    default long getPropertyNamesVersion() {
+        return UNKNOWN_VERSION;
+    }
+}
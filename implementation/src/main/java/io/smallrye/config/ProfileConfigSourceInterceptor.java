@@ -4,21 +4,27 @@ import static io.smallrye.config.ConfigValue.CONFIG_SOURCE_COMPARATOR;
 import static io.smallrye.config.Converters.STRING_CONVERTER;
 import static io.smallrye.config.Converters.newCollectionConverter;
 import static io.smallrye.config.Converters.newTrimmingConverter;
+import static io.smallrye.config.common.utils.StringUtil.replaceNonAlphanumericByUnderscores;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 
 import javax.annotation.Priority;
 
 @Priority(Priorities.LIBRARY + 200)
-public class ProfileConfigSourceInterceptor implements ConfigSourceInterceptor {
+public class ProfileConfigSourceInterceptor implements ConfigSourceInterceptor, RawValueInterceptor {
     private static final long serialVersionUID = -6305289277993917313L;
     private final String[] profiles;
+    private transient volatile boolean indexNames;
+    private transient volatile ProfileNames profileNames;
 
     public ProfileConfigSourceInterceptor(final String profile) {
         this(profile != null ? convertProfile(profile) : new ArrayList<>());
@@ -38,7 +44,7 @@ public class ProfileConfigSourceInterceptor implements ConfigSourceInterceptor {
     public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name) {
         if (profiles.length > 0) {
             final String normalizeName = normalizeName(name);
-            final ConfigValue profileValue = getProfileValue(context, normalizeName);
+            final ConfigValue profileValue = getProfileValue(context, normalizeName, true);
             if (profileValue != null) {
                 try {
                     final ConfigValue originalValue = context.proceed(normalizeName);
@@ -48,18 +54,65 @@ public class ProfileConfigSourceInterceptor implements ConfigSourceInterceptor {
                 } catch (final NoSuchElementException e) {
                     // We couldn't find the main property so we fallback to the profile property because it exists.
                 }
-                return profileValue.withName(normalizeName);
+                return profileValue;
             }
         }
 
         return context.proceed(name);
     }
 
+    @Override
+    public String getRawValue(final ConfigSourceInterceptorContext context, final String name) {
+        if (profiles.length > 0 && !isUnprofiled(context, name)) {
+            return RawValueInterceptor.rawValue(getValue(context, name));
+        }
+        return RawValueInterceptor.proceedRaw(context, name);
+    }
+
+    /**
+     * If the name is known to not have a profiled name for any profile, from the index of the profiled names.
+     */
+    private boolean isUnprofiled(final ConfigSourceInterceptorContext context, final String name) {
+        if (!indexNames || name.isEmpty() || name.charAt(0) == '%') {
+            return false;
+        }
+        final ProfileNames profileNames = getProfileNames(context);
+        if (profileNames.getProfiledNames(name) != null) {
+            return false;
+        }
+        for (int i = 0; i < profiles.length; i++) {
+            if (!profileNames.isIndexed(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public ConfigValue getProfileValue(final ConfigSourceInterceptorContext context, final String normalizeName) {
-        for (String profile : profiles) {
-            final ConfigValue profileValue = context.proceed("%" + profile + "." + normalizeName);
+        return getProfileValue(context, normalizeName, false);
+    }
+
+    private ConfigValue getProfileValue(final ConfigSourceInterceptorContext context, final String normalizeName,
+            final boolean withNormalizedName) {
+        final ProfileNames profileNames = indexNames ? getProfileNames(context) : null;
+        final String[] profiledNames = profileNames != null ? profileNames.getProfiledNames(normalizeName) : null;
+        for (int i = 0; i < profiles.length; i++) {
+            final String profile = profiles[i];
+            final String profiledName;
+            if (profileNames != null && profileNames.isIndexed(i)) {
+                profiledName = profiledNames != null ? profiledNames[i] : null;
+                if (profiledName == null) {
+                    continue;
+                }
+            } else {
+                profiledName = "%" + profile + "." + normalizeName;
+            }
+
+            final ConfigValue profileValue = context.proceed(profiledName);
             if (profileValue != null) {
-                return profileValue.withProfile(profile);
+                // Set the profile and the name in a single copy
+                final ConfigValue.ConfigValueBuilder builder = profileValue.from().withProfile(profile);
+                return (withNormalizedName ? builder.withName(normalizeName) : builder).build();
             }
         }
 
@@ -91,9 +144,35 @@ public class ProfileConfigSourceInterceptor implements ConfigSourceInterceptor {
         return profiles;
     }
 
+    /**
+     * Look up the profiled names in an index of the names known by the context, instead of querying the profiled name
+     * of each profile. Only set when every source lists all its names and the names do not change, since a profiled
+     * name missing from the index is never queried.
+     *
+     * @param indexNames {@code true} to index the profiled names
+     */
+    void setIndexNames(final boolean indexNames) {
+        this.indexNames = indexNames;
+        this.profileNames = null;
+    }
+
+    private ProfileNames getProfileNames(final ConfigSourceInterceptorContext context) {
+        ProfileNames profileNames = this.profileNames;
+        if (profileNames == null || profileNames.context != context) {
+            profileNames = new ProfileNames(context, profiles);
+            this.profileNames = profileNames;
+        }
+        return profileNames;
+    }
+
     private String normalizeName(final String name) {
+        if (name.isEmpty() || name.charAt(0) != '%') {
+            return name;
+        }
+
         for (String profile : profiles) {
-            if (name.startsWith("%" + profile + ".")) {
+            if (name.startsWith(profile, 1) && name.length() > profile.length() + 1
+                    && name.charAt(profile.length() + 1) == '.') {
                 return name.substring(profile.length() + 2);
             }
         }
@@ -120,4 +199,65 @@ public class ProfileConfigSourceInterceptor implements ConfigSourceInterceptor {
         }
         return profiles;
     }
+
+    /**
+     * Maps each name to the profiled names that exist for it, with one slot per profile, so a lookup only queries the
+     * profiled names that are known to exist and does not need to build them.
+     * <p>
+     *
+     * The names are the ones known by the {@link ConfigSourceInterceptorContext} when the first lookup runs, so the
+     * index is only used when the names of the sources are fixed, see {@link #setIndexNames(boolean)}. If the
+     * context knows a name that may be an environment variable for a profile, like <code>_DEV_FOO_BAR</code> for
+     * <code>%dev.foo.bar</code>, the profile is not indexed, and its profiled names are always queried.
+     */
+    private static final class ProfileNames {
+        private final ConfigSourceInterceptorContext context;
+        private final Map<String, String[]> profiledNames;
+        private final boolean[] indexed;
+
+        ProfileNames(final ConfigSourceInterceptorContext context, final String[] profiles) {
+            this.context = context;
+            this.profiledNames = new HashMap<>();
+            this.indexed = new boolean[profiles.length];
+            Arrays.fill(indexed, true);
+
+            final String[] envPrefixes = new String[profiles.length];
+            for (int i = 0; i < profiles.length; i++) {
+                envPrefixes[i] = "_" + replaceNonAlphanumericByUnderscores(profiles[i]) + "_";
+            }
+
+            final Iterator<String> names = context.iterateNames();
+            while (names.hasNext()) {
+                final String name = names.next();
+                if (name.isEmpty()) {
+                    continue;
+                }
+
+                if (name.charAt(0) == '%') {
+                    for (int i = 0; i < profiles.length; i++) {
+                        final String profile = profiles[i];
+                        if (name.startsWith(profile, 1) && name.length() > profile.length() + 1
+                                && name.charAt(profile.length() + 1) == '.') {
+                            profiledNames.computeIfAbsent(name.substring(profile.length() + 2),
+                                    k -> new String[profiles.length])[i] = name;
+                        }
+                    }
+                } else if (name.charAt(0) == '_') {
+                    for (int i = 0; i < profiles.length; i++) {
+                        if (name.regionMatches(true, 0, envPrefixes[i], 0, envPrefixes[i].length())) {
+                            indexed[i] = false;
+                        }
+                    }
+                }
+            }
+        }
+
+        String[] getProfiledNames(final String name) {
+            return profiledNames.get(name);
+        }
+
+        boolean isIndexed(final int profile) {
+            return indexed[profile];
+        }
+    }
 }
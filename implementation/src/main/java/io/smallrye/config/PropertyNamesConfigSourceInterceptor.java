@@ -2,9 +2,12 @@ package io.smallrye.config;
 
 import static io.smallrye.config.common.utils.StringUtil.replaceNonAlphanumericByUnderscores;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.microprofile.config.spi.ConfigSource;
@@ -26,7 +29,7 @@ import org.eclipse.microprofile.config.spi.ConfigSource;
  * If <code>foo-bar</code> is present and <code>FOO_BAR</code> is also present, no additional property is required.
  * If <code>FOO_BAR</code> is present an additional property <code>foo.bar</code> is added.
  */
-class PropertyNamesConfigSourceInterceptor implements ConfigSourceInterceptor {
+class PropertyNamesConfigSourceInterceptor implements ConfigSourceInterceptor, RawValueInterceptor {
     private static final long serialVersionUID = 5263983885197566053L;
 
     private final Set<String> dottedProperties = new HashSet<>();
@@ -40,13 +43,17 @@ class PropertyNamesConfigSourceInterceptor implements ConfigSourceInterceptor {
         }
         properties.removeAll(envProperties);
 
+        // Index the environment names case-folded, so each property is matched with a single lookup
+        final Map<String, List<String>> envPropertiesIndex = new HashMap<>();
+        for (String envProperty : envProperties) {
+            envPropertiesIndex.computeIfAbsent(toUpperCase(envProperty), k -> new ArrayList<>()).add(envProperty);
+        }
+
         final Set<String> overrides = new HashSet<>();
         for (String property : properties) {
-            for (String envProperty : envProperties) {
-                if (envProperty.equalsIgnoreCase(replaceNonAlphanumericByUnderscores(property))) {
-                    overrides.add(envProperty);
-                    break;
-                }
+            final List<String> matches = envPropertiesIndex.get(toUpperCase(replaceNonAlphanumericByUnderscores(property)));
+            if (matches != null) {
+                overrides.addAll(matches);
             }
         }
 
@@ -61,6 +68,11 @@ class PropertyNamesConfigSourceInterceptor implements ConfigSourceInterceptor {
         return context.proceed(name);
     }
 
+    @Override
+    public String getRawValue(final ConfigSourceInterceptorContext context, final String name) {
+        return RawValueInterceptor.proceedRaw(context, name);
+    }
+
     @Override
     public Iterator<String> iterateNames(final ConfigSourceInterceptorContext context) {
         final Set<String> names = new HashSet<>();
@@ -72,6 +84,18 @@ class PropertyNamesConfigSourceInterceptor implements ConfigSourceInterceptor {
         return names.iterator();
     }
 
+    /**
+     * Converts each character to uppercase and keeps the length of the name, like the comparison in
+     * {@link String#equalsIgnoreCase(String)}.
+     */
+    private static String toUpperCase(final String name) {
+        final char[] chars = new char[name.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toUpperCase(name.charAt(i));
+        }
+        return new String(chars);
+    }
+
     private static String toLowerCaseAndDotted(final String name) {
         int length = name.length();
         boolean quotesOpen = false;
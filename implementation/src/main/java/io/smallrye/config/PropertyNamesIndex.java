@@ -0,0 +1,76 @@
+package io.smallrye.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * An index of property names by parent name, to find the direct children of a property or the indexes of an indexed
+ * property without scanning all the property names.
+ * <p>
+ *
+ * The direct children of <code>foo.bar</code> are the names in the form <code>foo.bar.child</code>, where
+ * <code>child</code> does not contain any dots. The indexes of <code>foo.bar</code> are all the numbers found in names
+ * in the form <code>foo.bar[index]</code>, including <code>foo.bar[index].child</code> or
+ * <code>foo.bar[index][other]</code>.
+ */
+final class PropertyNamesIndex {
+    private final Map<String, List<String>> children;
+    private final Map<String, List<Integer>> indexes;
+
+    PropertyNamesIndex(final Set<String> names) {
+        final Map<String, List<String>> children = new HashMap<>();
+        final Map<String, Set<Integer>> indexes = new HashMap<>();
+        for (String name : names) {
+            int dot = name.lastIndexOf('.');
+            if (dot >= 0) {
+                children.computeIfAbsent(name.substring(0, dot), k -> new ArrayList<>()).add(name);
+            }
+
+            for (int begin = name.indexOf('['); begin >= 0; begin = name.indexOf('[', begin + 1)) {
+                int end = name.indexOf(']', begin);
+                if (end < 0) {
+                    break;
+                }
+                try {
+                    int index = Integer.parseInt(name.substring(begin + 1, end));
+                    indexes.computeIfAbsent(name.substring(0, begin), k -> new TreeSet<>()).add(index);
+                } catch (NumberFormatException e) {
+                    //NOOP
+                }
+            }
+        }
+
+        this.children = children;
+        this.indexes = new HashMap<>();
+        for (Map.Entry<String, Set<Integer>> entry : indexes.entrySet()) {
+            this.indexes.put(entry.getKey(), Collections.unmodifiableList(new ArrayList<>(entry.getValue())));
+        }
+    }
+
+    /**
+     * Returns the property names that are direct children of the given parent name.
+     *
+     * @param parent the parent property name, without the trailing dot
+     * @return the property names of the direct children, or an empty list if none exist
+     */
+    List<String> getChildren(final String parent) {
+        final List<String> names = children.get(parent);
+        return names != null ? Collections.unmodifiableList(names) : Collections.emptyList();
+    }
+
+    /**
+     * Returns the indexes found in property names of the given indexed property.
+     *
+     * @param property the indexed property name, without the index
+     * @return the sorted indexes, or an empty list if none exist
+     */
+    List<Integer> getIndexes(final String property) {
+        final List<Integer> names = indexes.get(property);
+        return names != null ? names : Collections.emptyList();
+    }
+}
@@ -0,0 +1,34 @@
+package io.smallrye.config;
+
+/**
+ * An interceptor that can return the raw value of a name without building a {@link ConfigValue}, when it does not
+ * need to change the value. It is used by {@link SmallRyeConfig#getRawValue(String)}, so a simple hit does not
+ * allocate. An interceptor that needs the {@link ConfigValue}, like to expand an expression, falls back to
+ * {@link ConfigSourceInterceptor#getValue(ConfigSourceInterceptorContext, String)}.
+ * <p>
+ *
+ * The raw path is only used when the class of the interceptor declares both methods, so a subclass that overrides
+ * {@code getValue} is always called through it.
+ */
+interface RawValueInterceptor {
+    /**
+     * Returns the raw value of a name, with the same result as the value of
+     * {@link ConfigSourceInterceptor#getValue(ConfigSourceInterceptorContext, String)}.
+     *
+     * @param context the interceptor context
+     * @param name the property name
+     * @return the raw value, or {@code null} if the name has no value
+     */
+    String getRawValue(ConfigSourceInterceptorContext context, String name);
+
+    static String proceedRaw(final ConfigSourceInterceptorContext context, final String name) {
+        if (context instanceof SmallRyeConfigSourceInterceptorContext) {
+            return ((SmallRyeConfigSourceInterceptorContext) context).proceedRaw(name);
+        }
+        return rawValue(context.proceed(name));
+    }
+
+    static String rawValue(final ConfigValue configValue) {
+        return configValue != null ? configValue.getValue() : null;
+    }
+}
@@ -8,7 +8,7 @@ import java.util.function.Function;
 import javax.annotation.Priority;
 
 @Priority(Priorities.LIBRARY + 300)
-public class RelocateConfigSourceInterceptor extends AbstractMappingConfigSourceInterceptor {
+public class RelocateConfigSourceInterceptor extends AbstractMappingConfigSourceInterceptor implements RawValueInterceptor {
     private static final long serialVersionUID = 3476637906383945843L;
 
     public RelocateConfigSourceInterceptor(final Function<String, String> mapping) {
@@ -36,4 +36,13 @@ public class RelocateConfigSourceInterceptor extends AbstractMappingConfigSource
             return relocateValue != null ? relocateValue : configValue;
         }
     }
+
+    @Override
+    public String getRawValue(final ConfigSourceInterceptorContext context, final String name) {
+        // Only a name that is not relocated can skip the comparison of the sources of both values
+        if (name.equals(getMapping().apply(name))) {
+            return RawValueInterceptor.proceedRaw(context, name);
+        }
+        return RawValueInterceptor.rawValue(getValue(context, name));
+    }
 }
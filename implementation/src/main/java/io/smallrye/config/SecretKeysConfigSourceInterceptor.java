@@ -5,7 +5,7 @@ import java.util.Set;
 import javax.annotation.Priority;
 
 @Priority(Priorities.LIBRARY + 100)
-public class SecretKeysConfigSourceInterceptor implements ConfigSourceInterceptor {
+public class SecretKeysConfigSourceInterceptor implements ConfigSourceInterceptor, RawValueInterceptor {
     private static final long serialVersionUID = 7291982039729980590L;
 
     private final Set<String> secrets;
@@ -22,6 +22,14 @@ public class SecretKeysConfigSourceInterceptor implements ConfigSourceIntercepto
         return context.proceed(name);
     }
 
+    @Override
+    public String getRawValue(final ConfigSourceInterceptorContext context, final String name) {
+        if (SecretKeys.isLocked() && isSecret(name)) {
+            throw ConfigMessages.msg.notAllowed(name);
+        }
+        return RawValueInterceptor.proceedRaw(context, name);
+    }
+
     private boolean isSecret(final String name) {
         return secrets.contains(name);
     }
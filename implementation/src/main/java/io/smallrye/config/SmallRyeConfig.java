@@ -19,6 +19,9 @@ import static io.smallrye.config.ConfigSourceInterceptor.EMPTY;
 
 import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -59,13 +62,19 @@ public class SmallRyeConfig implements Config, Serializable {
     private final ConfigSources configSources;
     private final Map<Type, Converter<?>> converters;
     private final Map<Type, Converter<Optional<?>>> optionalConverters = new ConcurrentHashMap<>();
+    private final Map<Type, Converter<List<?>>> listConverters = new ConcurrentHashMap<>();
+    private final Map<Type, Converter<Optional<List<?>>>> optionalListConverters = new ConcurrentHashMap<>();
+    private final Map<Type, Converter<?>> composedConverters = new ConcurrentHashMap<>();
 
     private final ConfigMappings mappings;
+    private final transient ConversionCache conversionCache;
 
     SmallRyeConfig(SmallRyeConfigBuilder builder, ConfigMappings mappings) {
         this.configSources = new ConfigSources(builder);
         this.converters = buildConverters(builder);
         this.mappings = mappings;
+        this.conversionCache = builder.getConversionCacheSize() > 0 ? new ConversionCache(builder.getConversionCacheSize())
+                : null;
     }
 
     private Map<Type, Converter<?>> buildConverters(final SmallRyeConfigBuilder builder) {
@@ -92,7 +101,11 @@ public class SmallRyeConfig implements Config, Serializable {
 
     @Override
     public <T> List<T> getValues(final String propertyName, final Class<T> propertyType) {
-        return getValues(propertyName, propertyType, ArrayList::new);
+        try {
+            return getValue(propertyName, getListConverter(propertyType), null);
+        } catch (NoSuchElementException e) {
+            return getIndexedValues(propertyName, requireConverter(propertyType), ArrayList::new);
+        }
     }
 
     public <T, C extends Collection<T>> C getValues(String name, Class<T> itemClass, IntFunction<C> collectionFactory) {
@@ -101,7 +114,7 @@ public class SmallRyeConfig implements Config, Serializable {
 
     public <T, C extends Collection<T>> C getValues(String name, Converter<T> converter, IntFunction<C> collectionFactory) {
         try {
-            return getValue(name, Converters.newCollectionConverter(converter, collectionFactory));
+            return getValue(name, Converters.newCollectionConverter(converter, collectionFactory), null);
         } catch (NoSuchElementException e) {
             return getIndexedValues(name, converter, collectionFactory);
         }
@@ -133,31 +146,7 @@ public class SmallRyeConfig implements Config, Serializable {
     }
 
     public List<Integer> getIndexedPropertiesIndexes(final String property) {
-        Set<Integer> indexes = new HashSet<>();
-        for (String propertyName : this.getPropertyNames()) {
-            if (propertyName.startsWith(property) && propertyName.length() > property.length()) {
-                int index = property.length();
-                if (propertyName.charAt(index) == '[') {
-                    for (;;) {
-                        if (propertyName.charAt(index) == ']') {
-                            try {
-                                indexes.add(Integer.parseInt(propertyName.substring(property.length() + 1, index)));
-                            } catch (NumberFormatException e) {
-                                //NOOP
-                            }
-                            break;
-                        } else if (index < propertyName.length() - 1) {
-                            index++;
-                        } else {
-                            break;
-                        }
-                    }
-                }
-            }
-        }
-        List<Integer> sortIndexes = new ArrayList<>(indexes);
-        Collections.sort(sortIndexes);
-        return sortIndexes;
+        return new ArrayList<>(configSources.getPropertyNamesIndex().getIndexes(property));
     }
 
     @Override
@@ -198,18 +187,12 @@ public class SmallRyeConfig implements Config, Serializable {
      * @throws IllegalArgumentException if a key or a value cannot be converted to the specified types
      */
     public <K, V> Map<K, V> getValuesAsMap(String name, Converter<K> keyConverter, Converter<V> valueConverter) {
-        final String prefix = name.endsWith(".") ? name : name + ".";
+        final String parent = name.endsWith(".") ? name.substring(0, name.length() - 1) : name;
         final Map<K, V> result = new HashMap<>();
-        for (String propertyName : getPropertyNames()) {
-            if (propertyName.startsWith(prefix)) {
-                final String key = propertyName.substring(prefix.length());
-                if (key.indexOf('.') >= 0) {
-                    // Ignore sub namespaces
-                    continue;
-                }
-                result.put(convertValue(propertyName + "#key", key, keyConverter),
-                        convertValue(propertyName + "#value", getRawValue(propertyName), valueConverter));
-            }
+        for (String propertyName : configSources.getPropertyNamesIndex().getChildren(parent)) {
+            final String key = propertyName.substring(parent.length() + 1);
+            result.put(convertValue(propertyName + "#key", key, keyConverter),
+                    convertValue(propertyName + "#value", getRawValue(propertyName), valueConverter));
         }
         return result.isEmpty() ? null : result;
     }
@@ -218,8 +201,12 @@ public class SmallRyeConfig implements Config, Serializable {
      * 
      * This method handles calls from both {@link Config#getValue} and {@link Config#getOptionalValue}.<br>
      */
-    @SuppressWarnings("unchecked")
     public <T> T getValue(String name, Converter<T> converter) {
+        return getValue(name, converter, conversionCache);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T getValue(String name, Converter<T> converter, ConversionCache conversionCache) {
         final ConfigValue configValue = getConfigValue(name);
         if (ConfigValueConverter.CONFIG_VALUE_CONVERTER.equals(converter)) {
             return (T) configValue;
@@ -234,6 +221,9 @@ public class SmallRyeConfig implements Config, Serializable {
 
         final String value = configValue.getValue(); // Can return the empty String (which is not considered as null)
 
+        if (conversionCache != null && value != null) {
+            return conversionCache.convert(this, name, value, converter);
+        }
         return convertValue(name, value, converter);
     }
 
@@ -313,8 +303,160 @@ public class SmallRyeConfig implements Config, Serializable {
      * @return the raw value, or {@code null} if no property value was discovered for the given property name
      */
     public String getRawValue(String name) {
-        final ConfigValue configValue = getConfigValue(name);
-        return configValue != null && configValue.getValue() != null ? configValue.getValue() : null;
+        return RawValueInterceptor.proceedRaw(configSources.getInterceptorChain(), name);
+    }
+
+    /**
+     * Returns the value of a configuration property as an {@code int}. Unlike
+     * {@code getValue(name, Integer.class)}, the value is not boxed, unless a custom {@code Integer} converter is registered.
+     *
+     * @param name the property name
+     * @return the value of the property
+     * @throws NoSuchElementException if the property is not defined or is empty
+     * @throws IllegalArgumentException if the property cannot be converted to an {@code int}
+     */
+    public int getInt(String name) {
+        return (int) getPrimitive(name, Primitive.INT, 0, true);
+    }
+
+    /**
+     * Returns the value of a configuration property as an {@code int}, or a default value if the property is not
+     * defined or is empty. The value is not boxed, unless a custom {@code Integer} converter is registered.
+     *
+     * @param name the property name
+     * @param defaultValue the value to return if the property is not defined or is empty
+     * @return the value of the property or the default value
+     * @throws IllegalArgumentException if the property cannot be converted to an {@code int}
+     */
+    public int getInt(String name, int defaultValue) {
+        return (int) getPrimitive(name, Primitive.INT, defaultValue, false);
+    }
+
+    /**
+     * Returns the value of a configuration property as a {@code long}. Unlike
+     * {@code getValue(name, Long.class)}, the value is not boxed, unless a custom {@code Long} converter is registered.
+     *
+     * @param name the property name
+     * @return the value of the property
+     * @throws NoSuchElementException if the property is not defined or is empty
+     * @throws IllegalArgumentException if the property cannot be converted to a {@code long}
+     */
+    public long getLong(String name) {
+        return getPrimitive(name, Primitive.LONG, 0, true);
+    }
+
+    /**
+     * Returns the value of a configuration property as a {@code long}, or a default value if the property is not
+     * defined or is empty. The value is not boxed, unless a custom {@code Long} converter is registered.
+     *
+     * @param name the property name
+     * @param defaultValue the value to return if the property is not defined or is empty
+     * @return the value of the property or the default value
+     * @throws IllegalArgumentException if the property cannot be converted to a {@code long}
+     */
+    public long getLong(String name, long defaultValue) {
+        return getPrimitive(name, Primitive.LONG, defaultValue, false);
+    }
+
+    /**
+     * Returns the value of a configuration property as a {@code double}. Unlike
+     * {@code getValue(name, Double.class)}, the value is not boxed, unless a custom {@code Double} converter is registered.
+     *
+     * @param name the property name
+     * @return the value of the property
+     * @throws NoSuchElementException if the property is not defined or is empty
+     * @throws IllegalArgumentException if the property cannot be converted to a {@code double}
+     */
+    public double getDouble(String name) {
+        return Double.longBitsToDouble(getPrimitive(name, Primitive.DOUBLE, 0, true));
+    }
+
+    /**
+     * Returns the value of a configuration property as a {@code double}, or a default value if the property is not
+     * defined or is empty. The value is not boxed, unless a custom {@code Double} converter is registered.
+     *
+     * @param name the property name
+     * @param defaultValue the value to return if the property is not defined or is empty
+     * @return the value of the property or the default value
+     * @throws IllegalArgumentException if the property cannot be converted to a {@code double}
+     */
+    public double getDouble(String name, double defaultValue) {
+        return Double.longBitsToDouble(
+                getPrimitive(name, Primitive.DOUBLE, Double.doubleToRawLongBits(defaultValue), false));
+    }
+
+    /**
+     * Returns the value of a configuration property as a {@code boolean}. Unlike
+     * {@code getValue(name, Boolean.class)}, the value is not boxed, unless a custom {@code Boolean} converter is registered.
+     *
+     * @param name the property name
+     * @return the value of the property
+     * @throws NoSuchElementException if the property is not defined or is empty
+     * @throws IllegalArgumentException if the property cannot be converted to a {@code boolean}
+     */
+    public boolean getBoolean(String name) {
+        return getPrimitive(name, Primitive.BOOLEAN, 0, true) != 0;
+    }
+
+    /**
+     * Returns the value of a configuration property as a {@code boolean}, or a default value if the property is not
+     * defined or is empty. The value is not boxed, unless a custom {@code Boolean} converter is registered.
+     *
+     * @param name the property name
+     * @param defaultValue the value to return if the property is not defined or is empty
+     * @return the value of the property or the default value
+     * @throws IllegalArgumentException if the property cannot be converted to a {@code boolean}
+     */
+    public boolean getBoolean(String name, boolean defaultValue) {
+        return getPrimitive(name, Primitive.BOOLEAN, defaultValue ? 1 : 0, false) != 0;
+    }
+
+    /**
+     * The value of a property for the primitive accessors, as the bits of a {@code long}, so all the primitive types
+     * share the lookup without boxing. When a custom converter of the wrapper type is registered, it converts the
+     * value, and a {@code null} result is handled like a missing property.
+     *
+     * @param name the property name
+     * @param primitive the primitive type
+     * @param defaultValue the bits of the value to return if the property is missing and not required
+     * @param required {@code true} to throw a {@link NoSuchElementException} if the property is missing
+     * @return the bits of the value of the property, or the default value
+     */
+    private long getPrimitive(String name, Primitive primitive, long defaultValue, boolean required) {
+        final String value = getPrimitiveValue(name);
+        if (value != null && converters.get(primitive.type) == primitive.converter) {
+            try {
+                return primitive.convert(value);
+            } catch (IllegalArgumentException e) {
+                throw ConfigMessages.msg.converterException(e, name, value, e.getLocalizedMessage());
+            }
+        }
+        if (value == null && !required) {
+            return defaultValue;
+        }
+
+        // a missing value or a custom converter, which boxes the value
+        final Object converted = required ? getValue(name, requireConverter(primitive.type))
+                : getOptionalValue(name, primitive.type).orElse(null);
+        if (converted == null) {
+            if (required) {
+                throw new NoSuchElementException(ConfigMessages.msg.propertyNotFound(name));
+            }
+            return defaultValue;
+        }
+        return primitive.toBits(converted);
+    }
+
+    /**
+     * The trimmed raw value of a property, or {@code null} if the property is not defined or is empty.
+     */
+    private String getPrimitiveValue(String name) {
+        final String value = getRawValue(name);
+        if (value == null) {
+            return null;
+        }
+        final String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
     }
 
     @Override
@@ -339,11 +481,16 @@ public class SmallRyeConfig implements Config, Serializable {
     }
 
     public <T> Optional<T> getOptionalValue(String name, Converter<T> converter) {
-        return getValue(name, Converters.newOptionalConverter(converter));
+        return getValue(name, Converters.newOptionalConverter(converter), null);
     }
 
     public <T> Optional<List<T>> getOptionalValues(final String propertyName, final Class<T> propertyType) {
-        return getOptionalValues(propertyName, propertyType, ArrayList::new);
+        final Optional<List<T>> optionalValue = getValue(propertyName, getOptionalListConverter(propertyType), null);
+        if (optionalValue.isPresent()) {
+            return optionalValue;
+        } else {
+            return getIndexedOptionalValues(propertyName, requireConverter(propertyType), ArrayList::new);
+        }
     }
 
     public <T, C extends Collection<T>> Optional<C> getOptionalValues(String name, Class<T> itemClass,
@@ -398,12 +545,17 @@ public class SmallRyeConfig implements Config, Serializable {
 
     @Override
     public Iterable<String> getPropertyNames() {
-        final HashSet<String> names = new HashSet<>();
-        final Iterator<String> namesIterator = configSources.getInterceptorChain().iterateNames();
-        while (namesIterator.hasNext()) {
-            names.add(namesIterator.next());
-        }
-        return names;
+        return configSources.getPropertyNames();
+    }
+
+    /**
+     * Discards the cached property names, so they are computed again on the next lookup. The cache is already
+     * invalidated when the {@link MutableConfigSource#getPropertyNamesVersion()} of a source changes. Only use it
+     * when the property names of a source that does not implement {@link MutableConfigSource} changed.
+     */
+    @Experimental("Refresh the property names of mutable sources")
+    public void refreshPropertyNames() {
+        configSources.refreshPropertyNames();
     }
 
     /**
@@ -448,6 +600,18 @@ public class SmallRyeConfig implements Config, Serializable {
                 clazz -> Converters.newOptionalConverter(requireConverter((Class) clazz)));
     }
 
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private <T> Converter<List<T>> getListConverter(Class<T> asType) {
+        return (Converter) listConverters.computeIfAbsent(asType,
+                clazz -> (Converter) Converters.newCollectionConverter(requireConverter((Class) clazz), ArrayList::new));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private <T> Converter<Optional<List<T>>> getOptionalListConverter(Class<T> asType) {
+        return (Converter) optionalListConverters.computeIfAbsent(asType,
+                clazz -> (Converter) Converters.newOptionalConverter(getListConverter((Class) clazz)));
+    }
+
     @Deprecated // binary-compatibility bridge method for Quarkus
     public <T> Converter<T> getConverter$$bridge(Class<T> asType) {
         return requireConverter(asType);
@@ -477,11 +641,99 @@ public class SmallRyeConfig implements Config, Serializable {
         }
         if (asType.isArray()) {
             final Converter<?> conv = getConverterOrNull(asType.getComponentType());
-            return conv == null ? null : Converters.newArrayConverter(conv, asType);
+            if (conv == null) {
+                return null;
+            }
+            // not computeIfAbsent, the component lookup may add its own implicit converter
+            final Converter<?> arrayConverter = Converters.newArrayConverter(conv, asType);
+            final Converter<?> existing = converters.putIfAbsent(asType, arrayConverter);
+            return (Converter<T>) (existing != null ? existing : arrayConverter);
         }
         return (Converter<T>) converters.computeIfAbsent(asType, clazz -> ImplicitConverters.getConverter((Class<?>) clazz));
     }
 
+    /**
+     * Returns the {@link Converter} of a generic type. A {@code List}, a {@code Set} or an {@code Optional} of a type, a
+     * {@code Map} of two types and a generic array are converted by composing the converters of their type arguments.
+     * Any other parameterized type is converted by the converter of its raw type.
+     * <p>
+     *
+     * The composed converters are cached by type, so the lookups of the same type, from here or from the CDI
+     * injection, share a single converter instance.
+     *
+     * @param type the type to convert to
+     * @param <T> the type to convert to
+     * @return the converter or an empty {@code Optional} if no converter is available for the type
+     */
+    @Experimental("Converter of a generic type")
+    public <T> Optional<Converter<T>> getConverter(Type type) {
+        return Optional.ofNullable(getConverterOrNull(type));
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> Converter<T> getConverterOrNull(Type type) {
+        if (type instanceof Class<?>) {
+            return getConverterOrNull((Class<T>) type);
+        }
+        final Converter<?> composed = composedConverters.get(type);
+        if (composed != null) {
+            return (Converter<T>) composed;
+        }
+        final Converter<?> converter = composeConverter(type);
+        if (converter == null) {
+            return null;
+        }
+        final Converter<?> existing = composedConverters.putIfAbsent(type, converter);
+        return (Converter<T>) (existing != null ? existing : converter);
+    }
+
+    private Converter<?> composeConverter(Type type) {
+        if (type instanceof ParameterizedType) {
+            final ParameterizedType parameterizedType = (ParameterizedType) type;
+            final Type rawType = parameterizedType.getRawType();
+            final Type[] typeArgs = parameterizedType.getActualTypeArguments();
+            if (rawType == List.class || rawType == Set.class || rawType == Optional.class) {
+                final Converter<?> itemConverter = getConverterOrNull(typeArgs[0]);
+                if (itemConverter == null) {
+                    return null;
+                } else if (rawType == List.class) {
+                    return Converters.newCollectionConverter(itemConverter, ArrayList::new);
+                } else if (rawType == Set.class) {
+                    return Converters.newCollectionConverter(itemConverter, HashSet::new);
+                } else {
+                    return Converters.newOptionalConverter(itemConverter);
+                }
+            } else if (rawType == Map.class) {
+                final Converter<?> keyConverter = getConverterOrNull(typeArgs[0]);
+                final Converter<?> valueConverter = getConverterOrNull(typeArgs[1]);
+                return keyConverter == null || valueConverter == null ? null
+                        : Converters.newMapConverter(keyConverter, valueConverter);
+            }
+            return getConverterOrNull(rawType);
+        } else if (type instanceof GenericArrayType) {
+            final Type componentType = ((GenericArrayType) type).getGenericComponentType();
+            final Class<?> rawComponentType = rawTypeOf(componentType);
+            final Converter<?> componentConverter = getConverterOrNull(componentType);
+            return rawComponentType == null || componentConverter == null ? null
+                    : Converters.newArrayConverter(componentConverter,
+                            Array.newInstance(rawComponentType, 0).getClass());
+        }
+        // type variables and wildcards have no converter
+        return null;
+    }
+
+    private static Class<?> rawTypeOf(Type type) {
+        if (type instanceof Class<?>) {
+            return (Class<?>) type;
+        } else if (type instanceof ParameterizedType) {
+            return rawTypeOf(((ParameterizedType) type).getRawType());
+        } else if (type instanceof GenericArrayType) {
+            final Class<?> rawComponentType = rawTypeOf(((GenericArrayType) type).getGenericComponentType());
+            return rawComponentType == null ? null : Array.newInstance(rawComponentType, 0).getClass();
+        }
+        return null;
+    }
+
     @Override
     public <T> T unwrap(final Class<T> type) {
         if (Config.class.isAssignableFrom(type)) {
@@ -496,12 +748,123 @@ public class SmallRyeConfig implements Config, Serializable {
         return configSources.getProfiles();
     }
 
+    /**
+     * The number of times a {@link ConfigSource} was queried for a value. Only counted when the config is built with
+     * {@link SmallRyeConfigBuilder#withFixedPropertyNames(boolean)}.
+     *
+     * @return the number of queries to the sources
+     */
+    @Experimental("Metrics of the config sources lookups")
+    public long getConfigSourceProbes() {
+        return configSources.getSmallRyeConfigSources().getProbes();
+    }
+
+    /**
+     * The number of values served from the conversion cache, enabled with
+     * {@link SmallRyeConfigBuilder#withConversionCache(int)}.
+     *
+     * @return the number of cache hits, or {@code 0} if the cache is not enabled
+     */
+    @Experimental("Metrics of the conversion cache")
+    public long getConversionCacheHits() {
+        return conversionCache != null ? conversionCache.getHits() : 0;
+    }
+
+    /**
+     * The number of values converted and added to the conversion cache, enabled with
+     * {@link SmallRyeConfigBuilder#withConversionCache(int)}.
+     *
+     * @return the number of cache misses, or {@code 0} if the cache is not enabled
+     */
+    @Experimental("Metrics of the conversion cache")
+    public long getConversionCacheMisses() {
+        return conversionCache != null ? conversionCache.getMisses() : 0;
+    }
+
+    /**
+     * The number of times a {@link ConfigSource} was not queried for a value, because the source was known to not
+     * contain it. Only sources backed by a single map are filtered, and only when the config is built with
+     * {@link SmallRyeConfigBuilder#withFixedPropertyNames(boolean)}.
+     *
+     * @return the number of skipped queries to the sources
+     */
+    @Experimental("Metrics of the config sources lookups")
+    public long getSkippedConfigSourceProbes() {
+        return configSources.getSmallRyeConfigSources().getSkippedProbes();
+    }
+
+    /**
+     * The primitive types of the primitive accessors, with their built-in converters. The values are held in the
+     * bits of a {@code long}.
+     */
+    private enum Primitive {
+        BOOLEAN(Boolean.class, Converters.BOOLEAN_CONVERTER) {
+            @Override
+            long convert(final String value) {
+                return Converters.PRIMITIVE_BOOLEAN_CONVERTER.convertBoolean(value) ? 1 : 0;
+            }
+
+            @Override
+            long toBits(final Object value) {
+                return (Boolean) value ? 1 : 0;
+            }
+        },
+        INT(Integer.class, Converters.INTEGER_CONVERTER) {
+            @Override
+            long convert(final String value) {
+                return Converters.PRIMITIVE_INT_CONVERTER.convertInt(value);
+            }
+
+            @Override
+            long toBits(final Object value) {
+                return (Integer) value;
+            }
+        },
+        LONG(Long.class, Converters.LONG_CONVERTER) {
+            @Override
+            long convert(final String value) {
+                return Converters.PRIMITIVE_LONG_CONVERTER.convertLong(value);
+            }
+
+            @Override
+            long toBits(final Object value) {
+                return (Long) value;
+            }
+        },
+        DOUBLE(Double.class, Converters.DOUBLE_CONVERTER) {
+            @Override
+            long convert(final String value) {
+                return Double.doubleToRawLongBits(Converters.PRIMITIVE_DOUBLE_CONVERTER.convertDouble(value));
+            }
+
+            @Override
+            long toBits(final Object value) {
+                return Double.doubleToRawLongBits((Double) value);
+            }
+        };
+
+        final Class<?> type;
+        final Converter<?> converter;
+
+        Primitive(final Class<?> type, final Converter<?> converter) {
+            this.type = type;
+            this.converter = converter;
+        }
+
+        abstract long convert(String value);
+
+        abstract long toBits(Object value);
+    }
+
     private static class ConfigSources implements Serializable {
         private static final long serialVersionUID = 3483018375584151712L;
 
         private final List<String> profiles;
         private final List<ConfigSource> sources;
         private final ConfigSourceInterceptorContext interceptorChain;
+        private final SmallRyeConfigSources smallRyeConfigSources;
+        private final List<ConfigSource> mutableSources;
+        private transient volatile PropertyNames propertyNames;
 
         /**
          * Builds a representation of Config Sources, Interceptors and the Interceptor chain to be used in Config. Note
@@ -517,7 +880,8 @@ public class SmallRyeConfig implements Config, Serializable {
 
             // Create the initial chain with initial sources and all interceptors
             SmallRyeConfigSourceInterceptorContext current = new SmallRyeConfigSourceInterceptorContext(EMPTY, null);
-            current = new SmallRyeConfigSourceInterceptorContext(new SmallRyeConfigSources(mapSources(sources)), current);
+            current = new SmallRyeConfigSourceInterceptorContext(new SmallRyeConfigSources(mapSources(sources), false),
+                    current);
             for (InterceptorWithPriority interceptorWithPriority : interceptorWithPriorities) {
                 ConfigSourceInterceptor interceptor = interceptorWithPriority.getInterceptor(current);
                 interceptors.add(interceptor);
@@ -532,11 +896,16 @@ public class SmallRyeConfig implements Config, Serializable {
             // Rebuild the chain with the late sources and new instances of the interceptors
             // The new instance will ensure that we get rid of references to factories and other stuff and keep only
             // the resolved final source or interceptor to use.
+            SmallRyeConfigSources smallRyeConfigSources = new SmallRyeConfigSources(sourcesWithPriorities,
+                    builder.isFixedPropertyNames());
             current = new SmallRyeConfigSourceInterceptorContext(EMPTY, null);
-            current = new SmallRyeConfigSourceInterceptorContext(new SmallRyeConfigSources(sourcesWithPriorities),
-                    current);
+            current = new SmallRyeConfigSourceInterceptorContext(smallRyeConfigSources, current);
             for (ConfigSourceInterceptor interceptor : interceptors) {
                 current = new SmallRyeConfigSourceInterceptorContext(interceptor, current);
+                // Profiled names can only be indexed if no source adds names later
+                if (interceptor instanceof ProfileConfigSourceInterceptor) {
+                    ((ProfileConfigSourceInterceptor) interceptor).setIndexNames(smallRyeConfigSources.isEnumerable());
+                }
             }
 
             // Adds the PropertyNamesConfigSourceInterceptor
@@ -544,9 +913,15 @@ public class SmallRyeConfig implements Config, Serializable {
             ConfigSourceInterceptor propertyNamesInterceptor = createPropertyNamesInterceptor(sources, current);
             current = new SmallRyeConfigSourceInterceptorContext(propertyNamesInterceptor, current);
 
+            if (builder.isFrozen()) {
+                current = new SmallRyeConfigSourceInterceptorContext(new FrozenConfigSourceInterceptor(current), current);
+            }
+
             this.profiles = profiles;
             this.sources = configSources;
             this.interceptorChain = current;
+            this.smallRyeConfigSources = smallRyeConfigSources;
+            this.mutableSources = getMutableSources(configSources);
         }
 
         private static List<ConfigSource> buildSources(final SmallRyeConfigBuilder builder) {
@@ -675,10 +1050,41 @@ public class SmallRyeConfig implements Config, Serializable {
             return new PropertyNamesConfigSourceInterceptor(properties, sources);
         }
 
+        private static List<ConfigSource> getMutableSources(final List<ConfigSource> sources) {
+            final List<ConfigSource> mutableSources = new ArrayList<>();
+            for (ConfigSource source : sources) {
+                if (source instanceof MutableConfigSource) {
+                    mutableSources.add(source);
+                }
+            }
+            return mutableSources;
+        }
+
         public List<String> getProfiles() {
             return profiles;
         }
 
+        Set<String> getPropertyNames() {
+            return getCurrentPropertyNames().getNames();
+        }
+
+        PropertyNamesIndex getPropertyNamesIndex() {
+            return getCurrentPropertyNames().getIndex();
+        }
+
+        void refreshPropertyNames() {
+            this.propertyNames = null;
+        }
+
+        private PropertyNames getCurrentPropertyNames() {
+            PropertyNames propertyNames = this.propertyNames;
+            if (propertyNames == null || propertyNames.isStale(mutableSources)) {
+                propertyNames = new PropertyNames(interceptorChain, mutableSources);
+                this.propertyNames = propertyNames;
+            }
+            return propertyNames;
+        }
+
         List<ConfigSource> getSources() {
             return sources;
         }
@@ -686,6 +1092,59 @@ public class SmallRyeConfig implements Config, Serializable {
         ConfigSourceInterceptorContext getInterceptorChain() {
             return interceptorChain;
         }
+
+        SmallRyeConfigSources getSmallRyeConfigSources() {
+            return smallRyeConfigSources;
+        }
+    }
+
+    /**
+     * Holds the property names from the interceptor chain and the {@link MutableConfigSource#getPropertyNamesVersion()}
+     * of each mutable source at the time they were computed, to detect when the names need to be computed again. The
+     * {@link PropertyNamesIndex} is built on first use and shares the lifecycle of the names.
+     */
+    private static class PropertyNames {
+        private final Set<String> names;
+        private final long[] mutableVersions;
+        private volatile PropertyNamesIndex index;
+
+        PropertyNames(final ConfigSourceInterceptorContext interceptorChain, final List<ConfigSource> mutableSources) {
+            // Snapshot the versions first, so a concurrent change is detected by the next call
+            this.mutableVersions = new long[mutableSources.size()];
+            for (int i = 0; i < mutableVersions.length; i++) {
+                mutableVersions[i] = ((MutableConfigSource) mutableSources.get(i)).getPropertyNamesVersion();
+            }
+
+            final Set<String> names = new HashSet<>();
+            final Iterator<String> namesIterator = interceptorChain.iterateNames();
+            while (namesIterator.hasNext()) {
+                names.add(namesIterator.next());
+            }
+            this.names = Collections.unmodifiableSet(names);
+        }
+
+        Set<String> getNames() {
+            return names;
+        }
+
+        PropertyNamesIndex getIndex() {
+            PropertyNamesIndex index = this.index;
+            if (index == null) {
+                index = new PropertyNamesIndex(names);
+                this.index = index;
+            }
+            return index;
+        }
+
+        boolean isStale(final List<ConfigSource> mutableSources) {
+            for (int i = 0; i < mutableVersions.length; i++) {
+                final long version = ((MutableConfigSource) mutableSources.get(i)).getPropertyNamesVersion();
+                if (version == MutableConfigSource.UNKNOWN_VERSION || version != mutableVersions[i]) {
+                    return true;
+                }
+            }
+            return false;
+        }
     }
 
     static class ConfigSourceWithPriority implements Comparable<ConfigSourceWithPriority>, Serializable {
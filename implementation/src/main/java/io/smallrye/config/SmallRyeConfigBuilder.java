@@ -42,6 +42,8 @@ import org.eclipse.microprofile.config.spi.ConfigSource;
 import org.eclipse.microprofile.config.spi.ConfigSourceProvider;
 import org.eclipse.microprofile.config.spi.Converter;
 
+import io.smallrye.common.constraint.Assert;
+
 /**
  * @author <a href="http://jmesnil.net/">Jeff Mesnil</a> (c) 2017 Red Hat inc.
  */
@@ -65,6 +67,9 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
     private boolean addDiscoveredConverters = false;
     private boolean addDiscoveredInterceptors = false;
     private boolean addDiscoveredValidator = false;
+    private boolean frozen = false;
+    private int conversionCacheSize = 0;
+    private boolean fixedPropertyNames = false;
 
     public SmallRyeConfigBuilder() {
     }
@@ -307,6 +312,87 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
         return this;
     }
 
+    /**
+     * Map the registered mappings in parallel, in the common {@link java.util.concurrent.ForkJoinPool}. Mappings are
+     * grouped by the shortest registered prefix that encloses their prefix, and each group is mapped on its own.
+     * Mappings registered with an empty prefix, or with a security manager installed, are always mapped sequentially.
+     * The mappings are mapped with the context class loader of the thread that builds the {@link SmallRyeConfig}.
+     * <p>
+     * Only use it when the configuration sources, converters and the mapping classes can be used concurrently.
+     *
+     * @param parallel {@code true} to map the mappings in parallel
+     * @return this builder
+     */
+    public SmallRyeConfigBuilder withParallelMapping(boolean parallel) {
+        mappingsBuilder.parallel(parallel);
+        return this;
+    }
+
+    /**
+     * Map the registered mappings on their first retrieval with {@link SmallRyeConfig#getConfigMapping(Class, String)},
+     * instead of when the {@link SmallRyeConfig} is built. Mappings are grouped like with
+     * {@link #withParallelMapping(boolean)}, and the first retrieval of a mapping maps its whole group. Unknown
+     * properties are still validated when the {@link SmallRyeConfig} is built, but other problems, like missing
+     * properties, are only reported when the mapping is retrieved.
+     *
+     * @param lazy {@code true} to map the mappings on their first retrieval
+     * @return this builder
+     */
+    public SmallRyeConfigBuilder withLazyMapping(boolean lazy) {
+        mappingsBuilder.lazy(lazy);
+        return this;
+    }
+
+    /**
+     * Resolve every known property name once, when the {@link SmallRyeConfig} is built, and serve lookups of these
+     * names from a read-only table, without going through the interceptor chain. Names not in the table, like the
+     * dotted names of environment variables, are still resolved through the chain.
+     * <p>
+     * Only use it when the configuration sources do not change after the {@link SmallRyeConfig} is built.
+     *
+     * @param frozen {@code true} to resolve the values when building the {@link SmallRyeConfig}
+     * @return this builder
+     */
+    public SmallRyeConfigBuilder withFrozen(boolean frozen) {
+        this.frozen = frozen;
+        return this;
+    }
+
+    /**
+     * Cache the values converted by {@link SmallRyeConfig#getValue(String, Converter)}, by property name and converter
+     * instance. A cached value is used while the raw value of the property does not change, and the cache evicts the
+     * oldest entries when it holds more than {@code maximumSize} values. Lookups that create a new converter on each
+     * call, like the lookups of collections, and values that are arrays or collections are not cached.
+     * <p>
+     * Only use it when the callers do not modify the values they retrieve, since the same instance is returned to
+     * all the callers.
+     *
+     * @param maximumSize the maximum number of cached values
+     * @return this builder
+     */
+    public SmallRyeConfigBuilder withConversionCache(int maximumSize) {
+        Assert.checkMinimumParameter("maximumSize", 1, maximumSize);
+        this.conversionCacheSize = maximumSize;
+        return this;
+    }
+
+    /**
+     * Declare that the property names of the configuration sources do not change after the {@link SmallRyeConfig} is
+     * built, and that each source lists all the names it has a value for. A lookup then skips the sources backed by a
+     * single map that do not contain the name, and counts the queries to the sources. If no source implements
+     * {@link MutableConfigSource}, the profiled names are also looked up in an index of the known names. Sources
+     * implementing {@link MutableConfigSource} are still always queried.
+     * <p>
+     * Only use it when no source is backed by a map that is modified after the {@link SmallRyeConfig} is built.
+     *
+     * @param fixedPropertyNames {@code true} if the property names of the sources never change
+     * @return this builder
+     */
+    public SmallRyeConfigBuilder withFixedPropertyNames(boolean fixedPropertyNames) {
+        this.fixedPropertyNames = fixedPropertyNames;
+        return this;
+    }
+
     public SmallRyeConfigBuilder withValidator(ConfigValidator validator) {
         this.validator = validator;
         return this;
@@ -403,6 +489,18 @@ public class SmallRyeConfigBuilder implements ConfigBuilder {
         return addDiscoveredValidator;
     }
 
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    public int getConversionCacheSize() {
+        return conversionCacheSize;
+    }
+
+    public boolean isFixedPropertyNames() {
+        return fixedPropertyNames;
+    }
+
     public SmallRyeConfigBuilder setAddDefaultSources(final boolean addDefaultSources) {
         this.addDefaultSources = addDefaultSources;
         return this;
@@ -1,5 +1,6 @@
 package io.smallrye.config;
 
+import java.lang.reflect.Method;
 import java.util.Iterator;
 
 class SmallRyeConfigSourceInterceptorContext implements ConfigSourceInterceptorContext {
@@ -7,12 +8,14 @@ class SmallRyeConfigSourceInterceptorContext implements ConfigSourceInterceptorC
 
     private final ConfigSourceInterceptor interceptor;
     private final ConfigSourceInterceptorContext next;
+    private final boolean rawValue;
 
     SmallRyeConfigSourceInterceptorContext(
             final ConfigSourceInterceptor interceptor,
             final ConfigSourceInterceptorContext next) {
         this.interceptor = interceptor;
         this.next = next;
+        this.rawValue = isRawValue(interceptor);
     }
 
     @Override
@@ -20,6 +23,35 @@ class SmallRyeConfigSourceInterceptorContext implements ConfigSourceInterceptorC
         return interceptor.getValue(next, name);
     }
 
+    /**
+     * Returns the raw value of a name, without building a {@link ConfigValue} when the interceptors of the chain
+     * support it.
+     *
+     * @param name the property name
+     * @return the raw value, or {@code null} if the name has no value
+     */
+    String proceedRaw(final String name) {
+        if (rawValue) {
+            return ((RawValueInterceptor) interceptor).getRawValue(next, name);
+        }
+        return RawValueInterceptor.rawValue(interceptor.getValue(next, name));
+    }
+
+    private static boolean isRawValue(final ConfigSourceInterceptor interceptor) {
+        if (!(interceptor instanceof RawValueInterceptor)) {
+            return false;
+        }
+        try {
+            final Method getValue = interceptor.getClass().getMethod("getValue", ConfigSourceInterceptorContext.class,
+                    String.class);
+            final Method getRawValue = interceptor.getClass().getMethod("getRawValue",
+                    ConfigSourceInterceptorContext.class, String.class);
+            return getValue.getDeclaringClass().equals(getRawValue.getDeclaringClass());
+        } catch (NoSuchMethodException | SecurityException e) {
+            return false;
+        }
+    }
+
     @Override
     public Iterator<String> iterateNames() {
         return interceptor.iterateNames(next);
@@ -1,39 +1,200 @@
 package io.smallrye.config;
 
+import java.io.Serializable;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.microprofile.config.spi.ConfigSource;
 
 import io.smallrye.config.SmallRyeConfig.ConfigSourceWithPriority;
+import io.smallrye.config.common.MapBackedConfigSource;
 
-class SmallRyeConfigSources implements ConfigSourceInterceptor {
+class SmallRyeConfigSources implements ConfigSourceInterceptor, RawValueInterceptor {
     private static final long serialVersionUID = 7560201715403486552L;
+    private static final Long NONE = 0L;
 
     private final List<ConfigValueConfigSource> configSources;
+    private final List<PositionedConfigSource> positionedConfigSources;
+    /**
+     * A bit for each of the first 64 sources that lists all the names it contains, when the property names are
+     * declared fixed with {@link SmallRyeConfigBuilder#withFixedPropertyNames(boolean)}. The names of these sources
+     * are in {@link #names}, and a source is only queried if the name has its bit set.
+     */
+    private final long filteredSources;
+    /**
+     * The names of the filtered sources, with a bit set for each filtered source that contains the name.
+     */
+    private final Map<String, Long> names;
+    /**
+     * The lookup metrics, only counted when the sources are filtered.
+     */
+    private final LongAdder probes;
+    private final LongAdder skippedProbes;
+    /**
+     * If the names of all the sources are fixed and each source lists all its names, so the names can be indexed.
+     */
+    private final boolean enumerable;
 
-    SmallRyeConfigSources(final List<ConfigSourceWithPriority> configSourcesWithPriorities) {
+    SmallRyeConfigSources(final List<ConfigSourceWithPriority> configSourcesWithPriorities,
+            final boolean fixedPropertyNames) {
         List<ConfigValueConfigSource> configSources = new ArrayList<>();
+        List<PositionedConfigSource> positionedConfigSources = new ArrayList<>();
+        long filteredSources = 0;
+        boolean enumerable = fixedPropertyNames;
+        Map<String, Long> names = new HashMap<>();
         for (ConfigSourceWithPriority configSource : configSourcesWithPriorities) {
+            int position = configSources.size();
+            positionedConfigSources.add(new PositionedConfigSource(configSource.getSource(), position));
             configSources.add(ConfigValueConfigSourceWrapper.wrap(configSource.getSource()));
+            if (configSource.getSource() instanceof MutableConfigSource) {
+                enumerable = false;
+            }
+
+            Set<String> sourceNames = fixedPropertyNames && position < Long.SIZE ? getFilterNames(configSource.getSource())
+                    : null;
+            if (sourceNames != null) {
+                filteredSources |= 1L << position;
+                for (String name : sourceNames) {
+                    names.merge(name, 1L << position, (a, b) -> a | b);
+                }
+            }
         }
         this.configSources = configSources;
+        this.positionedConfigSources = positionedConfigSources;
+        this.filteredSources = filteredSources;
+        this.names = names;
+        this.probes = fixedPropertyNames ? new LongAdder() : null;
+        this.skippedProbes = fixedPropertyNames ? new LongAdder() : null;
+        this.enumerable = enumerable;
     }
 
     @Override
     public ConfigValue getValue(final ConfigSourceInterceptorContext context, final String name) {
-        for (int i = 0, configSourcesSize = configSources.size(); i < configSourcesSize; i++) {
-            final ConfigValueConfigSource configSource = configSources.get(i);
-            final ConfigValue configValue = configSource.getConfigValue(name);
+        if (probes == null) {
+            for (int i = 0, configSourcesSize = positionedConfigSources.size(); i < configSourcesSize; i++) {
+                final ConfigValue configValue = positionedConfigSources.get(i).getConfigValue(name);
+                if (configValue != null) {
+                    return configValue;
+                }
+            }
+            return null;
+        }
+
+        final long contained = filteredSources != 0 ? names.getOrDefault(name, NONE) : 0;
+        int skipped = 0;
+        for (int i = 0, configSourcesSize = positionedConfigSources.size(); i < configSourcesSize; i++) {
+            if (i < Long.SIZE && (filteredSources & ~contained & (1L << i)) != 0) {
+                skipped++;
+                continue;
+            }
+
+            final ConfigValue configValue = positionedConfigSources.get(i).getConfigValue(name);
             if (configValue != null) {
-                return configValue.from().withConfigSourcePosition(i).build();
+                count(i + 1, skipped);
+                return configValue;
             }
         }
+        count(positionedConfigSources.size(), skipped);
         return null;
     }
 
+    @Override
+    public String getRawValue(final ConfigSourceInterceptorContext context, final String name) {
+        if (probes == null) {
+            for (int i = 0, configSourcesSize = positionedConfigSources.size(); i < configSourcesSize; i++) {
+                final String value = positionedConfigSources.get(i).getRawValue(name);
+                if (value != null) {
+                    return value;
+                }
+            }
+            return null;
+        }
+
+        final long contained = filteredSources != 0 ? names.getOrDefault(name, NONE) : 0;
+        int skipped = 0;
+        for (int i = 0, configSourcesSize = positionedConfigSources.size(); i < configSourcesSize; i++) {
+            if (i < Long.SIZE && (filteredSources & ~contained & (1L << i)) != 0) {
+                skipped++;
+                continue;
+            }
+
+            final String value = positionedConfigSources.get(i).getRawValue(name);
+            if (value != null) {
+                count(i + 1, skipped);
+                return value;
+            }
+        }
+        count(positionedConfigSources.size(), skipped);
+        return null;
+    }
+
+    private void count(final int sources, final int skipped) {
+        probes.add(sources - skipped);
+        if (skipped > 0) {
+            skippedProbes.add(skipped);
+        }
+    }
+
+    boolean isEnumerable() {
+        return enumerable;
+    }
+
+    long getProbes() {
+        return probes != null ? probes.sum() : 0;
+    }
+
+    long getSkippedProbes() {
+        return skippedProbes != null ? skippedProbes.sum() : 0;
+    }
+
+    /**
+     * Returns all the names a source may return a value for, if the source is known to only return values for the names
+     * it lists. This is only the case of sources backed by a single map, where the map is not replaced by a subclass.
+     * A map backed source may use the map of the caller as is, so the names are only fixed when declared so with
+     * {@link SmallRyeConfigBuilder#withFixedPropertyNames(boolean)}.
+     * Sources that may change after the config is built, like {@link MutableConfigSource}, or that look up names with
+     * some conversion, like the {@link EnvConfigSource}, are never filtered.
+     *
+     * @param configSource the source
+     * @return the names of the source, or {@code null} if the source cannot be filtered
+     */
+    private static Set<String> getFilterNames(final ConfigSource configSource) {
+        if (configSource instanceof MutableConfigSource || configSource instanceof EnvConfigSource) {
+            return null;
+        }
+
+        if (configSource instanceof MapBackedConfigSource
+                && isDeclaredBy(configSource, MapBackedConfigSource.class, "getValue", String.class)
+                && isDeclaredBy(configSource, MapBackedConfigSource.class, "getProperties")) {
+            return configSource.getProperties().keySet();
+        }
+
+        if (configSource instanceof MapBackedConfigValueConfigSource
+                && isDeclaredBy(configSource, MapBackedConfigValueConfigSource.class, "getConfigValue", String.class)
+                && isDeclaredBy(configSource, MapBackedConfigValueConfigSource.class, "getConfigValueProperties")) {
+            return ((MapBackedConfigValueConfigSource) configSource).getConfigValueProperties().keySet();
+        }
+
+        return null;
+    }
+
+    private static boolean isDeclaredBy(final ConfigSource configSource, final Class<?> declaringClass,
+            final String name, final Class<?>... parameterTypes) {
+        try {
+            final Method method = configSource.getClass().getMethod(name, parameterTypes);
+            return method.getDeclaringClass().equals(declaringClass);
+        } catch (NoSuchMethodException | SecurityException e) {
+            return false;
+        }
+    }
+
     @Override
     public Iterator<String> iterateNames(final ConfigSourceInterceptorContext context) {
         final Set<String> names = new HashSet<>();
@@ -57,4 +218,50 @@ class SmallRyeConfigSources implements ConfigSourceInterceptor {
         }
         return values.iterator();
     }
+
+    /**
+     * Returns the {@link ConfigValue} of a {@link ConfigSource} with its position in the list of sources. The position
+     * is fixed per source, so it is stamped when the value of a plain source is built, instead of building the value
+     * and then copying it to set the position. The {@link ConfigValue} of a {@link ConfigValueConfigSource} is only
+     * copied if it does not have the right position already. A raw value is read without building or copying a
+     * {@link ConfigValue}.
+     */
+    static final class PositionedConfigSource implements Serializable {
+        private static final long serialVersionUID = -3541279342541862387L;
+
+        private final ConfigSource configSource;
+        private final int position;
+
+        PositionedConfigSource(final ConfigSource configSource, final int position) {
+            this.configSource = configSource;
+            this.position = position;
+        }
+
+        ConfigValue getConfigValue(final String name) {
+            if (configSource instanceof ConfigValueConfigSource) {
+                final ConfigValue configValue = ((ConfigValueConfigSource) configSource).getConfigValue(name);
+                if (configValue == null || configValue.getConfigSourcePosition() == position) {
+                    return configValue;
+                }
+                return configValue.from().withConfigSourcePosition(position).build();
+            } else {
+                final String value = configSource.getValue(name);
+                if (value == null) {
+                    return null;
+                }
+                return ConfigValue.builder()
+                        .withName(name)
+                        .withValue(value)
+                        .withRawValue(value)
+                        .withConfigSourceName(configSource.getName())
+                        .withConfigSourceOrdinal(configSource.getOrdinal())
+                        .withConfigSourcePosition(position)
+                        .build();
+            }
+        }
+
+        String getRawValue(final String name) {
+            return configSource.getValue(name);
+        }
+    }
 }
@@ -30,7 +30,7 @@ import io.smallrye.config.common.utils.ConfigSourceUtil;
 /**
  * @author <a href="http://jmesnil.net/">Jeff Mesnil</a> (c) 2017 Red Hat inc.
  */
-public class SysPropConfigSource extends AbstractConfigSource {
+public class SysPropConfigSource extends AbstractConfigSource implements MutableConfigSource {
     private static final long serialVersionUID = 9167738611308785403L;
     private static final int DEFAULT_ORDINAL = 400;
 
@@ -53,6 +53,15 @@ public class SysPropConfigSource extends AbstractConfigSource {
         return doPrivileged((PrivilegedAction<String>) () -> System.getProperty(s));
     }
 
+    /**
+     * System properties do not keep a modification counter, and their size does not change when a property is
+     * removed and another one added, so the property names are computed again on every lookup.
+     */
+    @Override
+    public long getPropertyNamesVersion() {
+        return UNKNOWN_VERSION;
+    }
+
     private static Map<String, String> getSystemProperties() {
         return unmodifiableMap(propertiesToMap(doPrivileged((PrivilegedAction<Properties>) System::getProperties)));
     }
@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -499,4 +500,42 @@ public class ConfigMappingCollectionsTest {
         assertTrue(mapping.present().isPresent());
         assertEquals("localhost", mapping.present().get().get(0).get("localhost"));
     }
+
+    @ConfigMapping(prefix = "indexed")
+    public interface IndexedElements {
+        List<Element> elements();
+
+        interface Element {
+            Map<String, String> values();
+
+            Optional<Nested> nested();
+
+            interface Nested {
+                String name();
+            }
+        }
+    }
+
+    @Test
+    void mappingCollectionsIndexedSlots() {
+        Map<String, String> properties = new HashMap<>();
+        for (int i = 0; i < 50; i++) {
+            properties.put("indexed.elements[" + i + "].values.key", "value" + i);
+            properties.put("indexed.elements[" + i + "].nested.name", "nested" + i);
+        }
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withMapping(IndexedElements.class, "indexed")
+                .withSources(new PropertiesConfigSource(properties, "indexed", 100))
+                .build();
+
+        IndexedElements mapping = config.getConfigMapping(IndexedElements.class);
+        assertEquals(50, mapping.elements().size());
+        for (int i = 0; i < 50; i++) {
+            assertEquals("value" + i, mapping.elements().get(i).values().get("key"));
+            assertEquals("nested" + i, mapping.elements().get(i).nested().get().name());
+        }
+
+        // the elements are registered with the slot of their field and their index, so the slots of a type stay dense
+        assertTrue(ConfigMappingContext.getSlot(IndexedElements.Element.class, "other") <= 2);
+    }
 }
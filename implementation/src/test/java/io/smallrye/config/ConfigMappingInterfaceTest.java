@@ -6,6 +6,7 @@ import static io.smallrye.config.KeyValuesConfigSource.config;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.StreamSupport.stream;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -13,6 +14,9 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
@@ -157,6 +161,178 @@ class ConfigMappingInterfaceTest {
         assertEquals(8080, configProperties.port());
     }
 
+    @Test
+    void validateUnknownEquivalentNames() {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withMapping(Server.class, "server")
+                .withSources(config("server.host", "localhost", "server.port", "8080", "server.HOST", "localhost"))
+                .build();
+
+        final Server server = config.getConfigMapping(Server.class, "server");
+        assertEquals("localhost", server.host());
+        assertEquals(8080, server.port());
+
+        assertThrows(IllegalStateException.class, () -> new SmallRyeConfigBuilder()
+                .withMapping(Server.class, "server")
+                .withSources(config("server.host", "localhost", "server.port", "8080", "server.HOST", "localhost",
+                        "server.unknown", "unknown"))
+                .build());
+    }
+
+    @Test
+    void parallelMapping() {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withMapping(Server.class, "server")
+                .withMapping(Server.class, "server.cloud")
+                .withMapping(Server.class, "other")
+                .withMapping(Client.class, "client")
+                .withParallelMapping(true)
+                .withSources(config("server.host", "localhost", "server.port", "8080", "server.cloud.host", "cloud",
+                        "server.cloud.port", "9090", "other.host", "other", "other.port", "7070", "client.host", "client",
+                        "client.port", "6060"))
+                .build();
+
+        assertEquals("localhost", config.getConfigMapping(Server.class, "server").host());
+        assertEquals(8080, config.getConfigMapping(Server.class, "server").port());
+        assertEquals("cloud", config.getConfigMapping(Server.class, "server.cloud").host());
+        assertEquals(9090, config.getConfigMapping(Server.class, "server.cloud").port());
+        assertEquals("other", config.getConfigMapping(Server.class, "other").host());
+        assertEquals(7070, config.getConfigMapping(Server.class, "other").port());
+        assertEquals("client", config.getConfigMapping(Client.class, "client").host());
+        assertEquals(6060, config.getConfigMapping(Client.class, "client").port());
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> new SmallRyeConfigBuilder()
+                .withMapping(Server.class, "server")
+                .withMapping(Client.class, "client")
+                .withParallelMapping(true)
+                .withSources(config("server.host", "localhost", "server.port", "8080", "client.host", "client",
+                        "client.port", "6060", "client.unknown", "unknown"))
+                .build());
+        assertTrue(exception.getCause() instanceof ConfigValidationException);
+        assertEquals("client.unknown does not map to any root",
+                ((ConfigValidationException) exception.getCause()).getProblem(0).getMessage());
+
+        exception = assertThrows(IllegalStateException.class, () -> new SmallRyeConfigBuilder()
+                .withMapping(Server.class, "server")
+                .withMapping(Client.class, "client")
+                .withParallelMapping(true)
+                .withSources(config("server.host", "localhost", "server.port", "8080"))
+                .build());
+        assertTrue(exception.getCause() instanceof ConfigValidationException);
+        assertEquals(2, ((ConfigValidationException) exception.getCause()).getProblemCount());
+    }
+
+    @ConfigMapping
+    interface ClassProperty {
+        Class<?> type();
+    }
+
+    public static class ContextType {
+    }
+
+    @Test
+    void parallelMappingContextClassLoader() throws Exception {
+        String name = ContextType.class.getName();
+        ClassLoader parent = ContextType.class.getClassLoader();
+        ClassLoader contextClassLoader = new ClassLoader(parent) {
+            @Override
+            protected Class<?> loadClass(final String className, final boolean resolve) throws ClassNotFoundException {
+                if (!className.equals(name)) {
+                    return super.loadClass(className, resolve);
+                }
+                synchronized (getClassLoadingLock(className)) {
+                    Class<?> loaded = findLoadedClass(className);
+                    if (loaded == null) {
+                        try (InputStream in = parent.getResourceAsStream(className.replace('.', '/') + ".class")) {
+                            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                            byte[] buffer = new byte[4096];
+                            for (int read; (read = in.read(buffer)) != -1;) {
+                                bytes.write(buffer, 0, read);
+                            }
+                            loaded = defineClass(className, bytes.toByteArray(), 0, bytes.size());
+                        } catch (IOException e) {
+                            throw new ClassNotFoundException(className, e);
+                        }
+                    }
+                    return loaded;
+                }
+            }
+        };
+
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(contextClassLoader);
+        SmallRyeConfig config;
+        try {
+            config = new SmallRyeConfigBuilder()
+                    .withMapping(ClassProperty.class, "first")
+                    .withMapping(ClassProperty.class, "second")
+                    .withParallelMapping(true)
+                    .withSources(config("first.type", name, "second.type", name))
+                    .build();
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+
+        Class<?> first = config.getConfigMapping(ClassProperty.class, "first").type();
+        Class<?> second = config.getConfigMapping(ClassProperty.class, "second").type();
+        assertNotEquals(ContextType.class, first);
+        assertEquals(contextClassLoader, first.getClassLoader());
+        assertEquals(contextClassLoader, second.getClassLoader());
+    }
+
+    @Test
+    void lazyMapping() {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withMapping(Server.class, "server")
+                .withMapping(Server.class, "server.cloud")
+                .withMapping(Server.class, "other")
+                .withMapping(Client.class, "client")
+                .withLazyMapping(true)
+                .withSources(config("server.host", "localhost", "server.port", "8080", "server.cloud.host", "cloud",
+                        "server.cloud.port", "9090", "client.host", "client", "client.port", "6060"))
+                .build();
+
+        assertEquals("cloud", config.getConfigMapping(Server.class, "server.cloud").host());
+        assertEquals(9090, config.getConfigMapping(Server.class, "server.cloud").port());
+        assertEquals("localhost", config.getConfigMapping(Server.class, "server").host());
+        assertEquals(8080, config.getConfigMapping(Server.class, "server").port());
+        assertEquals("client", config.getConfigMapping(Client.class, "client").host());
+        assertEquals(6060, config.getConfigMapping(Client.class, "client").port());
+
+        // other is missing properties, which are only reported when it is retrieved
+        ConfigValidationException exception = assertThrows(ConfigValidationException.class,
+                () -> config.getConfigMapping(Server.class, "other"));
+        assertEquals(2, exception.getProblemCount());
+        assertThrows(ConfigValidationException.class, () -> config.getConfigMapping(Server.class, "other"));
+        assertThrows(NoSuchElementException.class, () -> config.getConfigMapping(Server.class, "unknown"));
+
+        IllegalStateException unknown = assertThrows(IllegalStateException.class, () -> new SmallRyeConfigBuilder()
+                .withMapping(Server.class, "server")
+                .withLazyMapping(true)
+                .withSources(config("server.host", "localhost", "server.port", "8080", "server.unknown", "unknown"))
+                .build());
+        assertTrue(unknown.getCause() instanceof ConfigValidationException);
+        assertEquals("server.unknown does not map to any root",
+                ((ConfigValidationException) unknown.getCause()).getProblem(0).getMessage());
+    }
+
+    @Test
+    void lazyMappingState() {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withMapping(Server.class, "server")
+                .withLazyMapping(true)
+                .withSources(config("server.host", "${host.name}", "host.name", "localhost", "server.port", "8080"))
+                .build();
+
+        // the first lookup maps the roots with the state of the build, with the expressions expanded
+        final Server server = Expressions.withoutExpansion(() -> config.getConfigMapping(Server.class, "server"));
+        assertEquals("localhost", server.host());
+        assertEquals(8080, server.port());
+        assertEquals("localhost", config.getConfigMapping(Server.class, "server").host());
+    }
+
     @Test
     void splitRoots() {
         final SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(
@@ -1249,4 +1425,31 @@ class ConfigMappingInterfaceTest {
         assertTrue(mapping.clients().get(NAF).medium().web());
         assertFalse(mapping.clients().get(NAF).medium().app());
     }
+
+    @ConfigMapping(prefix = "shards")
+    interface PrimitiveArrays {
+        int[] ports();
+
+        long[] ids();
+
+        @WithDefault("0.5,1.5")
+        double[] weights();
+
+        Optional<int[]> replicas();
+    }
+
+    @Test
+    void primitiveArrays() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withMapping(PrimitiveArrays.class, "shards")
+                .withSources(config("shards.ports", "8080,8081, 8082", "shards.ids", "1,,9000000000"))
+                .build();
+
+        PrimitiveArrays mapping = config.getConfigMapping(PrimitiveArrays.class);
+
+        assertArrayEquals(new int[] { 8080, 8081, 8082 }, mapping.ports());
+        assertArrayEquals(new long[] { 1, 9000000000L }, mapping.ids());
+        assertArrayEquals(new double[] { 0.5, 1.5 }, mapping.weights());
+        assertFalse(mapping.replicas().isPresent());
+    }
 }
@@ -0,0 +1,129 @@
+package io.smallrye.config;
+
+import static io.smallrye.config.ConfigMappingLoader.PRECOMPILED_MAPPINGS;
+import static io.smallrye.config.KeyValuesConfigSource.config;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ConfigMappingPrecompilerTest {
+    @Test
+    void precompile(@TempDir Path tempDir) throws Exception {
+        Map<String, String> precompiled = ConfigMappingPrecompiler.precompile(singletonList(Server.class), tempDir);
+
+        assertEquals(2, precompiled.size());
+        assertEquals(ConfigMappingInterface.getConfigurationInterface(Server.class).getClassName(),
+                precompiled.get(Server.class.getName()));
+        assertEquals(ConfigMappingInterface.getConfigurationInterface(Server.Log.class).getClassName(),
+                precompiled.get(Server.Log.class.getName()));
+        for (String className : precompiled.values()) {
+            assertTrue(Files.exists(tempDir.resolve(className.replace('.', '/') + ".class")));
+        }
+
+        List<String> index = Files.readAllLines(tempDir.resolve(PRECOMPILED_MAPPINGS));
+        assertTrue(index.contains(Server.class.getName() + "=" + precompiled.get(Server.class.getName())));
+        assertTrue(index.contains(Server.Log.class.getName() + "=" + precompiled.get(Server.Log.class.getName())));
+
+        try (PrecompiledClassLoader classLoader = new PrecompiledClassLoader(tempDir, Server.class.getName(),
+                Server.Log.class.getName())) {
+            Class<?> server = classLoader.loadClass(Server.class.getName());
+            Class<?> log = classLoader.loadClass(Server.Log.class.getName());
+
+            Class<? extends ConfigMappingObject> implementationClass = ConfigMappingLoader.getImplementationClass(server);
+            assertSame(classLoader, implementationClass.getClassLoader());
+            assertTrue(classLoader.precompiled.contains(implementationClass.getName()));
+
+            SmallRyeConfig config = new SmallRyeConfigBuilder()
+                    .withMapping(server, "server")
+                    .withSources(config("server.host", "localhost", "server.port", "8080", "server.log.enabled", "true"))
+                    .build();
+
+            Object mapping = config.getConfigMapping(server, "server");
+            assertEquals("localhost", server.getMethod("host").invoke(mapping));
+            assertEquals(8080, server.getMethod("port").invoke(mapping));
+            assertEquals(true, log.getMethod("enabled").invoke(server.getMethod("log").invoke(mapping)));
+            assertTrue(classLoader.precompiled.contains(precompiled.get(Server.Log.class.getName())));
+        }
+    }
+
+    @ConfigMapping(prefix = "server")
+    public interface Server {
+        String host();
+
+        int port();
+
+        Log log();
+
+        interface Log {
+            boolean enabled();
+        }
+    }
+
+    /**
+     * Defines its own copy of the mapping types, so they are not already mapped, and loads the precompiled classes
+     * and index from a classes directory.
+     */
+    static class PrecompiledClassLoader extends URLClassLoader {
+        private final Set<String> isolated;
+        private final Set<String> precompiled = new HashSet<>();
+
+        PrecompiledClassLoader(final Path classes, final String... isolated) throws MalformedURLException {
+            super(new URL[] { classes.toUri().toURL() }, PrecompiledClassLoader.class.getClassLoader());
+            this.isolated = new HashSet<>(Arrays.asList(isolated));
+        }
+
+        @Override
+        protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> klass = findLoadedClass(name);
+                if (klass == null) {
+                    if (isolated.contains(name)) {
+                        try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                            byte[] bytes = toByteArray(in);
+                            klass = defineClass(name, bytes, 0, bytes.length);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    } else {
+                        try {
+                            klass = findClass(name);
+                            precompiled.add(name);
+                        } catch (ClassNotFoundException e) {
+                            return super.loadClass(name, resolve);
+                        }
+                    }
+                }
+                return klass;
+            }
+        }
+
+        private static byte[] toByteArray(final InputStream in) throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+}
@@ -1,7 +1,18 @@
 package io.smallrye.config;
 
+import static io.smallrye.config.KeyValuesConfigSource.config;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
@@ -23,4 +34,105 @@ class ConfigMappingProviderTest {
         assertEquals("my-property-abc-abc", ConfigMappingProvider.skewer("myPropertyABCabc"));
         assertEquals("my.property.abc.abc", ConfigMappingProvider.skewer("myPropertyABCabc", '.'));
     }
+
+    @Test
+    void isPropertyInRoot() {
+        ConfigMappingProvider provider = ConfigMappingProvider.builder()
+                .addRoot("server", Server.class)
+                .addRoot("cloud.server", Server.class)
+                .addRoot("cloud.\"quoted.server\"", Server.class)
+                .build();
+
+        assertTrue(provider.isPropertyInRoot(new NameIterator("server.host")));
+        assertTrue(provider.isPropertyInRoot(new NameIterator("server[0].host")));
+        assertTrue(provider.isPropertyInRoot(new NameIterator("cloud.server.host")));
+        assertTrue(provider.isPropertyInRoot(new NameIterator("cloud.\"quoted.server\".host")));
+        assertFalse(provider.isPropertyInRoot(new NameIterator("server")));
+        assertFalse(provider.isPropertyInRoot(new NameIterator("serverBoot")));
+        assertFalse(provider.isPropertyInRoot(new NameIterator("serverBoot.host")));
+        assertFalse(provider.isPropertyInRoot(new NameIterator("cloud.host")));
+        assertFalse(provider.isPropertyInRoot(new NameIterator("cloud.server")));
+
+        NameIterator name = new NameIterator("cloud.server.host");
+        assertTrue(provider.isPropertyInRoot(name));
+        assertEquals("cloud", name.getNextSegment());
+
+        ConfigMappingProvider everything = ConfigMappingProvider.builder().addRoot("", Server.class).build();
+        assertTrue(everything.isPropertyInRoot(new NameIterator("host")));
+        assertTrue(everything.isPropertyInRoot(new NameIterator("server.host")));
+    }
+
+    @Test
+    void sharedTries() {
+        ConfigMappingProvider provider = ConfigMappingProvider.builder().addRoot("shared", Shared.class).build();
+        ConfigMappingProvider again = ConfigMappingProvider.builder().addRoot("shared", Shared.class).build();
+
+        assertSame(provider.getMatchActions(), again.getMatchActions());
+        assertSame(provider.getProperties(), again.getProperties());
+        assertNotSame(provider.getDefaultValues(), again.getDefaultValues());
+        assertEquals("8080", again.getDefaultValues().findRootValue("shared.port"));
+
+        provider.getDefaultValues().findOrAdd("shared.host").putRootValue("localhost");
+        assertNull(ConfigMappingProvider.builder().addRoot("shared", Shared.class).build().getDefaultValues()
+                .findRootValue("shared.host"));
+
+        ConfigMappingProvider ignored = ConfigMappingProvider.builder().addRoot("shared", Shared.class)
+                .addIgnored("shared.ignored.**").build();
+        assertNotSame(provider.getMatchActions(), ignored.getMatchActions());
+        assertNotNull(ignored.getMatchActions().findRootValue("shared.ignored.value"));
+        assertNull(provider.getMatchActions().findRootValue("shared.ignored.value"));
+
+        ConfigMappingProvider otherRoot = ConfigMappingProvider.builder().addRoot("other", Shared.class).build();
+        assertNotSame(provider.getMatchActions(), otherRoot.getMatchActions());
+    }
+
+    @Test
+    void sharedTriesNotMutated() {
+        ConfigMappingProvider provider = ConfigMappingProvider.builder().addRoot("published", Published.class).build();
+        String matchActions = provider.getMatchActions().toString();
+        Map<String, ConfigMappingInterface.Property> properties = new HashMap<>(provider.getProperties());
+        assertThrows(UnsupportedOperationException.class, () -> provider.getProperties().clear());
+
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("published.host", "localhost", "published.servers.one.host", "one",
+                        "published.servers.one.port", "9090",
+                        "published.aliases[0]", "first"))
+                .build();
+        ConfigMappingProvider again = ConfigMappingProvider.builder().addRoot("published", Published.class).build();
+        again.mapConfiguration(config);
+        again.getDefaultValues().findOrAdd("published.other").putRootValue("other");
+
+        assertSame(provider.getMatchActions(), again.getMatchActions());
+        assertEquals(matchActions, again.getMatchActions().toString());
+        assertEquals(properties, again.getProperties());
+        assertNull(ConfigMappingProvider.builder().addRoot("published", Published.class).build().getDefaultValues()
+                .findRootValue("published.other"));
+    }
+
+    @ConfigMapping
+    interface Server {
+        String host();
+
+        int port();
+    }
+
+    @ConfigMapping
+    interface Shared {
+        String host();
+
+        @WithDefault("8080")
+        int port();
+    }
+
+    @ConfigMapping
+    interface Published {
+        String host();
+
+        @WithDefault("8080")
+        int port();
+
+        Map<String, Server> servers();
+
+        List<String> aliases();
+    }
 }
@@ -7,6 +7,7 @@ import static io.smallrye.config.KeyValuesConfigSource.config;
 import static java.util.Collections.singleton;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -15,6 +16,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -160,6 +162,40 @@ public class ConfigMappingsTest {
                 .startsWith("SRCFG00044: The @ConfigProperties annotation can only be placed in classes"));
     }
 
+    @Test
+    void validateMappingOnce() {
+        AtomicInteger validations = new AtomicInteger();
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("server.host", "localhost", "server.port", "8080", "client.host", "localhost",
+                        "client.port", "8080"))
+                .withMapping(Server.class, "server")
+                .withMapping(Server.class, "client")
+                .withValidator((mappingClass, prefix, mappingObject) -> {
+                    validations.incrementAndGet();
+                    if (prefix.equals("client")) {
+                        throw new ConfigValidationException(
+                                new ConfigValidationException.Problem[] { new ConfigValidationException.Problem("client") });
+                    }
+                })
+                .build();
+
+        assertEquals(config.getConfigMapping(Server.class), config.getConfigMapping(Server.class));
+        assertEquals(1, validations.get());
+
+        ConfigValidationException exception = assertThrows(ConfigValidationException.class,
+                () -> config.getConfigMapping(Server.class, "client"));
+        assertEquals("client", exception.getProblem(0).getMessage());
+        assertThrows(ConfigValidationException.class, () -> config.getConfigMapping(Server.class, "client"));
+        assertEquals(2, validations.get());
+
+        registerConfigProperties(config, singleton(configClassWithPrefix(ServerClass.class, "server")));
+        ServerClass serverClass = config.getConfigMapping(ServerClass.class);
+        assertEquals("localhost", serverClass.host);
+        assertEquals(3, validations.get());
+        assertNotSame(serverClass, config.getConfigMapping(ServerClass.class));
+        assertEquals(3, validations.get());
+    }
+
     @ConfigMapping(prefix = "server")
     interface Server {
         String host();
@@ -1,6 +1,8 @@
 package io.smallrye.config;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -11,6 +13,8 @@ import org.eclipse.microprofile.config.ConfigValue;
 import org.eclipse.microprofile.config.spi.ConfigSource;
 import org.junit.jupiter.api.Test;
 
+import io.smallrye.config.common.MapBackedConfigSource;
+
 class ConfigValueTest {
     @Test
     void configValue() {
@@ -28,6 +32,133 @@ class ConfigValueTest {
         assertEquals(1000, configValue.getSourceOrdinal());
     }
 
+    @Test
+    void configValuePosition() {
+        final Map<String, String> properties = new HashMap<>();
+        properties.put("my.prop", "1234");
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(new ConfigValuePropertiesConfigSource(properties, "first", 200))
+                .withSources(new ConfigValuePropertiesConfigSource(properties, "second", 100))
+                .withSources(new PropertiesConfigSource(properties, "third", 50))
+                .withSources(new PropertiesConfigSource(properties, "fourth", 300))
+                .withSources(KeyValuesConfigSource.config("my.second", "5678", "my.third", "9999", "my.profile", "1234",
+                        "%dev.my.profile", "dev"))
+                .withProfile("dev")
+                .build();
+
+        final io.smallrye.config.ConfigValue first = config.getConfigValue("my.prop");
+        assertEquals("PropertiesConfigSource[source=fourth]", first.getConfigSourceName());
+        assertEquals(0, first.getConfigSourcePosition());
+
+        final io.smallrye.config.ConfigValue second = config.getConfigValue("my.second");
+        assertEquals("KeyValuesConfigSource", second.getConfigSourceName());
+        assertTrue(second.getConfigSourcePosition() > 0);
+
+        final io.smallrye.config.ConfigValue profile = config.getConfigValue("my.profile");
+        assertEquals("my.profile", profile.getName());
+        assertEquals("dev", profile.getProfile());
+        assertEquals("dev", profile.getValue());
+    }
+
+    @Test
+    void configValueChanged() {
+        final Map<String, String> properties = new HashMap<>();
+        properties.put("my.prop", "1234");
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(KeyValuesConfigSource.config("other", "value"))
+                .withSources(new MapBackedConfigSource("mutable", properties, 50, false) {
+                })
+                .build();
+
+        final io.smallrye.config.ConfigValue configValue = config.getConfigValue("my.prop");
+        assertEquals("1234", configValue.getValue());
+        assertEquals(1, configValue.getConfigSourcePosition());
+
+        properties.put("my.prop", "5678");
+        assertEquals("5678", config.getConfigValue("my.prop").getValue());
+        assertEquals("5678", config.getRawValue("my.prop"));
+    }
+
+    @Test
+    void skippedSources() {
+        final Map<String, String> first = new HashMap<>();
+        first.put("first", "1");
+        final Map<String, String> second = new HashMap<>();
+        second.put("second", "2");
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(first, "first", 300))
+                .withSources(new ConfigValuePropertiesConfigSource(second, "second", 200))
+                .withSources(KeyValuesConfigSource.config("third", "3"))
+                .withFixedPropertyNames(true)
+                .build();
+
+        final long probes = config.getConfigSourceProbes();
+        final long skipped = config.getSkippedConfigSourceProbes();
+
+        assertEquals("1", config.getRawValue("first"));
+        assertEquals(probes + 1, config.getConfigSourceProbes());
+        assertEquals(skipped, config.getSkippedConfigSourceProbes());
+
+        assertEquals("2", config.getRawValue("second"));
+        assertEquals(probes + 2, config.getConfigSourceProbes());
+        assertEquals(skipped + 1, config.getSkippedConfigSourceProbes());
+
+        // the third source and the defaults source are not filtered
+        assertEquals("3", config.getRawValue("third"));
+        assertNull(config.getRawValue("missing"));
+        assertEquals(probes + 5, config.getConfigSourceProbes());
+        assertEquals(skipped + 5, config.getSkippedConfigSourceProbes());
+    }
+
+    @Test
+    void namesAddedAfterBuild() {
+        final Map<String, String> properties = new HashMap<>();
+        properties.put("first", "1");
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(properties, "properties", 100))
+                .build();
+
+        assertNull(config.getRawValue("second"));
+        // the source uses the map as is, so a name added later is found
+        properties.put("second", "2");
+        assertEquals("2", config.getRawValue("second"));
+        assertEquals(0, config.getConfigSourceProbes());
+        assertEquals(0, config.getSkippedConfigSourceProbes());
+    }
+
+    @Test
+    void rawValue() {
+        final SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(new ConfigValuePropertiesConfigSource(new HashMap<>(), "empty", 200))
+                .withSources(KeyValuesConfigSource.config("my.prop", "1234", "my.expansion", "${my.prop}",
+                        "%dev.my.profile", "dev", "my.profile", "main"))
+                .withProfile("dev")
+                .withFixedPropertyNames(true)
+                .build();
+
+        for (String name : new String[] { "my.prop", "my.expansion", "my.profile", "my.missing" }) {
+            assertEquals(config.getConfigValue(name).getValue(), config.getRawValue(name));
+        }
+        assertEquals("1234", config.getRawValue("my.expansion"));
+        assertEquals("dev", config.getRawValue("my.profile"));
+
+        // an interceptor that overrides getValue is always called through it
+        final SmallRyeConfig overridden = new SmallRyeConfigBuilder()
+                .withSources(KeyValuesConfigSource.config("my.prop", "1234"))
+                .withInterceptors(new ProfileConfigSourceInterceptor("dev") {
+                    @Override
+                    public io.smallrye.config.ConfigValue getValue(final ConfigSourceInterceptorContext context,
+                            final String name) {
+                        final io.smallrye.config.ConfigValue configValue = super.getValue(context, name);
+                        return configValue != null ? configValue.withValue(configValue.getValue() + "!") : null;
+                    }
+                })
+                .build();
+        assertEquals("1234!", overridden.getRawValue("my.prop"));
+    }
+
     public static class ConfigValueConfigSource implements ConfigSource {
         private final Map<String, String> properties;
 
@@ -0,0 +1,166 @@
+package io.smallrye.config;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import org.eclipse.microprofile.config.spi.Converter;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.config.common.MapBackedConfigSource;
+
+class ConversionCacheTest {
+    @Test
+    void cache() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(KeyValuesConfigSource.config("pattern", "[0-9]+", "list", "a,b"))
+                .withConversionCache(10)
+                .build();
+
+        Pattern pattern = config.getValue("pattern", Pattern.class);
+        assertSame(pattern, config.getValue("pattern", Pattern.class));
+        assertEquals(1, config.getConversionCacheMisses());
+        assertEquals(1, config.getConversionCacheHits());
+
+        // the optional converter is another converter
+        Optional<Pattern> optional = config.getOptionalValue("pattern", Pattern.class);
+        assertSame(optional, config.getOptionalValue("pattern", Pattern.class));
+        assertEquals(2, config.getConversionCacheMisses());
+        assertEquals(2, config.getConversionCacheHits());
+
+        // new converters on each call are not cached
+        List<String> list = config.getValues("list", String.class);
+        assertNotSame(list, config.getValues("list", String.class));
+        assertEquals(2, config.getConversionCacheMisses());
+
+        assertThrows(NoSuchElementException.class, () -> config.getValue("missing", Pattern.class));
+        assertEquals(Optional.empty(), config.getOptionalValue("missing", Pattern.class));
+    }
+
+    @Test
+    void rawValueChanged() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("value", "1");
+        AtomicInteger conversions = new AtomicInteger();
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(new MapBackedConfigSource("test", properties) {
+                    @Override
+                    public String getValue(final String propertyName) {
+                        return properties.get(propertyName);
+                    }
+                })
+                .withConverter(Value.class, 100, (Converter<Value>) value -> {
+                    conversions.incrementAndGet();
+                    return new Value(value);
+                })
+                .withConversionCache(10)
+                .build();
+
+        assertEquals("1", config.getValue("value", Value.class).value);
+        assertEquals("1", config.getValue("value", Value.class).value);
+        assertEquals(1, conversions.get());
+
+        properties.put("value", "2");
+        assertEquals("2", config.getValue("value", Value.class).value);
+        assertEquals("2", config.getValue("value", Value.class).value);
+        assertEquals(2, conversions.get());
+        assertEquals(2, config.getConversionCacheHits());
+        assertEquals(2, config.getConversionCacheMisses());
+    }
+
+    @Test
+    void eviction() {
+        ConversionCache cache = new ConversionCache(2);
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(KeyValuesConfigSource.config("a", "1", "b", "2", "c", "3"))
+                .build();
+        Converter<Integer> converter = config.requireConverter(Integer.class);
+
+        assertEquals(1, cache.convert(config, "a", "1", converter));
+        assertEquals(2, cache.convert(config, "b", "2", converter));
+        assertEquals(3, cache.convert(config, "c", "3", converter));
+        assertEquals(2, cache.size());
+        assertEquals(3, cache.getMisses());
+
+        cache.convert(config, "c", "3", converter);
+        cache.convert(config, "a", "1", converter);
+        assertEquals(1, cache.getHits());
+        assertEquals(4, cache.getMisses());
+
+        assertThrows(IllegalArgumentException.class, () -> cache.convert(config, "d", "x", converter));
+        assertEquals(2, cache.size());
+        assertThrows(IllegalArgumentException.class, () -> new SmallRyeConfigBuilder().withConversionCache(0));
+    }
+
+    @Test
+    void mutableValues() {
+        ConversionCache cache = new ConversionCache(10);
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(KeyValuesConfigSource.config("list", "a,b"))
+                .build();
+        Converter<String[]> arrayConverter = value -> value.split(",");
+        Converter<List<String>> listConverter = value -> new ArrayList<>(Arrays.asList(value.split(",")));
+
+        String[] array = cache.convert(config, "list", "a,b", arrayConverter);
+        array[0] = "changed";
+        assertArrayEquals(new String[] { "a", "b" }, cache.convert(config, "list", "a,b", arrayConverter));
+
+        List<String> list = cache.convert(config, "list", "a,b", listConverter);
+        list.clear();
+        assertEquals(Arrays.asList("a", "b"), cache.convert(config, "list", "a,b", listConverter));
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHits());
+        assertEquals(4, cache.getMisses());
+    }
+
+    @Test
+    void concurrentEviction() throws Exception {
+        ConversionCache cache = new ConversionCache(2);
+        SmallRyeConfig config = new SmallRyeConfigBuilder().build();
+        Converter<Integer> converter = config.requireConverter(Integer.class);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        cache.convert(config, "name" + j, String.valueOf(j), converter);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertTrue(cache.size() <= 2);
+    }
+
+    static class Value {
+        final String value;
+
+        Value(final String value) {
+            this.value = value;
+        }
+    }
+}
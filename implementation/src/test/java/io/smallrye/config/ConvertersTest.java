@@ -320,6 +320,29 @@ class ConvertersTest {
         assertEquals(expected, (byte) config.getValue("simple.byte", Byte.TYPE), "Unexpected value for byte config");
     }
 
+    @Test
+    void primitiveArrayConverters() {
+        final SmallRyeConfig config = buildConfig("int.array", " 1, ,2,3 ", "long.array", "4,,5", "double.array", "6.5",
+                "boolean.array", "true, no,1",
+                "empty.array", " , ", "bad.array", "1,x");
+        final Converter<int[]> intConv = Converters.newArrayConverter(Converters.INTEGER_CONVERTER, int[].class);
+        assertSame(Converters.INT_ARRAY_CONVERTER, intConv);
+        assertArrayEquals(new int[] { 1, 2, 3 }, config.getValue("int.array", intConv));
+        assertArrayEquals(new int[] { 1, 2, 3 }, config.getValue("int.array", int[].class));
+        assertArrayEquals(new long[] { 4, 5 }, config.getValue("long.array", long[].class));
+        assertArrayEquals(new double[] { 6.5 }, config.getValue("double.array", double[].class));
+        assertArrayEquals(new boolean[] { true, false, true }, config.getValue("boolean.array", boolean[].class));
+        assertArrayEquals(new String[] { "4", "5" }, config.getValue("long.array", String[].class));
+        assertThrows(NoSuchElementException.class, () -> config.getValue("empty.array", int[].class));
+        assertThrows(IllegalArgumentException.class, () -> config.getValue("bad.array", int[].class));
+
+        final SmallRyeConfig custom = new SmallRyeConfigBuilder()
+                .withSources(KeyValuesConfigSource.config("int.array", "1,2"))
+                .withConverter(Integer.class, 1000, (Converter<Integer>) value -> Integer.parseInt(value) * 10)
+                .build();
+        assertArrayEquals(new int[] { 10, 20 }, custom.getValue("int.array", int[].class));
+    }
+
     @Test
     void byteArray() {
         final SmallRyeConfig config = new SmallRyeConfigBuilder()
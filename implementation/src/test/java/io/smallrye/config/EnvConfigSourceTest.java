@@ -20,9 +20,12 @@ import static java.util.stream.StreamSupport.stream;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.stream.StreamSupport;
 
@@ -95,4 +98,42 @@ class EnvConfigSourceTest {
         assertTrue(configSource instanceof EnvConfigSource);
         assertEquals(configSource.getOrdinal(), 301);
     }
+
+    @Test
+    void normalizedNames() {
+        Map<String, String> env = new HashMap<>();
+        env.put("FOO_BAR", "upper");
+        env.put("foo_baz", "sanitized");
+        env.put("FOO_BAZ", "upper");
+        env.put("foo.qux", "dotted");
+        env.put("FOO_BAR_QUOTED__KEY_", "quoted");
+        EnvConfigSource envConfigSource = new EnvConfigSource(env, 300);
+
+        assertEquals("upper", envConfigSource.getValue("foo.bar"));
+        assertEquals("upper", envConfigSource.getValue("foo-bar"));
+        assertEquals("upper", envConfigSource.getValue("FOO_BAR"));
+        assertEquals("sanitized", envConfigSource.getValue("foo.baz"));
+        assertEquals("upper", envConfigSource.getValue("FOO.BAZ"));
+        assertEquals("dotted", envConfigSource.getValue("foo.qux"));
+        assertNull(envConfigSource.getValue("foo_qux"));
+        assertNull(envConfigSource.getValue("FOO_QUX"));
+        assertEquals("quoted", envConfigSource.getValue("foo.bar.quoted.\"key\""));
+        assertNull(envConfigSource.getValue("foo.bar.baz"));
+        assertNull(envConfigSource.getValue("foo"));
+        assertNull(envConfigSource.getValue(null));
+    }
+
+    @Test
+    void copiedProperties() {
+        Map<String, String> env = new HashMap<>();
+        env.put("FOO_BAR", "upper");
+        EnvConfigSource envConfigSource = new EnvConfigSource(env, 300);
+
+        env.remove("FOO_BAR");
+        env.put("FOO_BAZ", "added");
+        assertEquals("upper", envConfigSource.getValue("foo.bar"));
+        assertNull(envConfigSource.getValue("foo.baz"));
+        assertNull(envConfigSource.getValue("FOO_BAZ"));
+        assertThrows(UnsupportedOperationException.class, () -> envConfigSource.getProperties().put("FOO_QUX", "qux"));
+    }
 }
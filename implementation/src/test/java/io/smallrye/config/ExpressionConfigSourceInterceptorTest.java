@@ -2,6 +2,8 @@ package io.smallrye.config;
 
 import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.ArrayList;
@@ -164,6 +166,32 @@ class ExpressionConfigSourceInterceptorTest {
         assertEquals("C:\\Some\\Path", config.getRawValue("window.path"));
     }
 
+    @Test
+    void expressionCache() {
+        ExpressionConfigSourceInterceptor interceptor = new ExpressionConfigSourceInterceptor();
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(KeyValuesConfigSource.config("my.prop", "1234", "expression", "${my.prop}"))
+                .withInterceptors(interceptor)
+                .build();
+
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertEquals(0, interceptor.getCacheMisses());
+        assertEquals(0, interceptor.getCacheSize());
+
+        assertEquals("1234", config.getRawValue("expression"));
+        assertEquals("1234", config.getRawValue("expression"));
+        assertEquals(1, interceptor.getCacheMisses());
+        assertEquals(1, interceptor.getCacheHits());
+        assertEquals(1, interceptor.getCacheSize());
+    }
+
+    @Test
+    void expressionCacheBounded() {
+        ExpressionConfigSourceInterceptor.ExpressionCache cache = new ExpressionConfigSourceInterceptor.ExpressionCache(1);
+        assertSame(cache.get("${one}"), cache.get("${one}"));
+        assertNotSame(cache.get("${two}"), cache.get("${two}"));
+    }
+
     private static SmallRyeConfig buildConfig(String... keyValues) {
         return new SmallRyeConfigBuilder()
                 .addDefaultSources()
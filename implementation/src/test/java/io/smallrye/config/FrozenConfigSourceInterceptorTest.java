@@ -0,0 +1,90 @@
+package io.smallrye.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+class FrozenConfigSourceInterceptorTest {
+    @Test
+    void frozen() {
+        SmallRyeConfig config = buildConfig("my.prop", "1234", "expression", "${my.prop}");
+
+        assertEquals("1234", config.getRawValue("my.prop"));
+        assertEquals("1234", config.getRawValue("expression"));
+        assertEquals("${my.prop}", config.getConfigValue("expression").getRawValue());
+        assertSame(config.getConfigValue("expression"), config.getConfigValue("expression"));
+        assertThrows(NoSuchElementException.class, () -> config.getValue("missing", String.class));
+    }
+
+    @Test
+    void profiles() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(KeyValuesConfigSource.config("my.prop", "1", "%dev.my.prop", "2", "%prod.my.prop", "3"))
+                .withProfile("dev")
+                .withFrozen(true)
+                .build();
+
+        assertEquals("2", config.getRawValue("my.prop"));
+        assertEquals("dev", config.getConfigValue("my.prop").getProfile());
+        assertEquals("3", config.getRawValue("%prod.my.prop"));
+    }
+
+    @Test
+    void envNames() {
+        Map<String, String> env = new HashMap<>();
+        env.put("MY_ENV_PROP", "env");
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(new EnvConfigSource(env, 300))
+                .withFrozen(true)
+                .build();
+
+        assertEquals("env", config.getRawValue("my.env.prop"));
+        assertEquals("env", config.getRawValue("MY_ENV_PROP"));
+    }
+
+    @Test
+    void secrets() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(KeyValuesConfigSource.config("secret", "12345678", "expression", "${secret}"))
+                .withSecretKeys("secret")
+                .withFrozen(true)
+                .build();
+
+        assertThrows(SecurityException.class, () -> config.getValue("secret", String.class));
+        assertThrows(SecurityException.class, () -> config.getValue("expression", String.class));
+        assertEquals("12345678", SecretKeys.doUnlocked(() -> config.getValue("secret", String.class)));
+        assertEquals("12345678", SecretKeys.doUnlocked(() -> config.getValue("expression", String.class)));
+    }
+
+    @Test
+    void withoutExpansion() {
+        SmallRyeConfig config = buildConfig("expression", "${missing:default}", "failing", "${missing}");
+
+        assertEquals("default", config.getRawValue("expression"));
+        assertEquals("${missing:default}", Expressions.withoutExpansion(() -> config.getRawValue("expression")));
+        assertTrue(config.isPropertyPresent("failing"));
+        assertFalse(config.isPropertyPresent("missing"));
+        assertThrows(NoSuchElementException.class, () -> config.getRawValue("failing"));
+        assertNull(config.getRawValue("missing"));
+    }
+
+    private static SmallRyeConfig buildConfig(String... keyValues) {
+        return new SmallRyeConfigBuilder()
+                .addDefaultInterceptors()
+                .withSources(KeyValuesConfigSource.config(keyValues))
+                .withFrozen(true)
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package io.smallrye.config;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.ByteArrayInputStream;
@@ -62,10 +63,46 @@ class ImplicitConverterTest {
                 "Converted values to have same file path");
     }
 
+    @Test
+    void nonPublicTypes() {
+        assertEquals("of:value", ImplicitConverters.getConverter(PrivateOf.class).convert("value").value);
+        assertEquals("ctor", ImplicitConverters.getConverter(PrivateConstructor.class).convert("ctor").value);
+        assertEquals(PrivateEnum.B, ImplicitConverters.getConverter(PrivateEnum.class).convert("B"));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> ImplicitConverters.getConverter(PrivateEnum.class).convert("C"));
+        assertEquals(IllegalArgumentException.class, e.getCause().getClass());
+    }
+
     private static Config buildConfig(String... keyValues) {
         return new SmallRyeConfigBuilder()
                 .addDefaultSources()
                 .withSources(KeyValuesConfigSource.config(keyValues))
                 .build();
     }
+
+    private static class PrivateOf {
+        final String value;
+
+        private PrivateOf(final String value) {
+            this.value = value;
+        }
+
+        public static PrivateOf of(String value) {
+            return new PrivateOf("of:" + value);
+        }
+    }
+
+    private static class PrivateConstructor {
+        final String value;
+
+        private PrivateConstructor(final String value) {
+            this.value = value;
+        }
+    }
+
+    private enum PrivateEnum {
+        A,
+        B
+    }
 }
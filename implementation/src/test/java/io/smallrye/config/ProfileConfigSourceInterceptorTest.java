@@ -4,6 +4,8 @@ import static io.smallrye.config.KeyValuesConfigSource.config;
 import static io.smallrye.config.SmallRyeConfig.SMALLRYE_CONFIG_LOCATIONS;
 import static io.smallrye.config.SmallRyeConfig.SMALLRYE_CONFIG_PROFILE;
 import static io.smallrye.config.SmallRyeConfig.SMALLRYE_CONFIG_PROFILE_PARENT;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static java.util.stream.StreamSupport.stream;
@@ -19,6 +21,7 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -491,6 +494,75 @@ class ProfileConfigSourceInterceptorTest {
         assertEquals("%prof.my.prop", configValue.getNameProfiled());
     }
 
+    @Test
+    void profiledNamesIndexed() {
+        List<String> lookups = new ArrayList<>();
+        HashMap<String, String> properties = new HashMap<>();
+        properties.put("my.prop", "1");
+        properties.put("%dev.my.prop", "2");
+        properties.put("%prod.other.prop", "3");
+        properties.put("main.prop", "4");
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(new MapBackedConfigSource("lookups", properties) {
+                    @Override
+                    public String getValue(final String propertyName) {
+                        lookups.add(propertyName);
+                        return super.getValue(propertyName);
+                    }
+                })
+                .withInterceptors(new ProfileConfigSourceInterceptor(asList("prod", "dev")))
+                .withFixedPropertyNames(true)
+                .build();
+
+        lookups.clear();
+        assertEquals("4", config.getRawValue("main.prop"));
+        assertEquals(singletonList("main.prop"), lookups);
+
+        lookups.clear();
+        assertEquals("2", config.getRawValue("my.prop"));
+        assertEquals(asList("%dev.my.prop", "my.prop"), lookups);
+
+        lookups.clear();
+        assertEquals("3", config.getRawValue("other.prop"));
+        assertEquals(asList("%prod.other.prop", "other.prop"), lookups);
+
+        lookups.clear();
+        assertNull(config.getRawValue("missing.prop"));
+        assertEquals(singletonList("missing.prop"), lookups);
+    }
+
+    @Test
+    void profiledNamesEnv() {
+        HashMap<String, String> env = new HashMap<>();
+        env.put("_DEV_MY_PROP", "env");
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(new EnvConfigSource(env, 300))
+                .withSources(config("my.prop", "1", "%prod.my.prop", "2"))
+                .withInterceptors(new ProfileConfigSourceInterceptor(asList("prod", "dev")))
+                .build();
+
+        assertEquals("env", config.getRawValue("my.prop"));
+        assertEquals("dev", config.getConfigValue("my.prop").getProfile());
+    }
+
+    @Test
+    void profiledNamesAddedAfterBuild() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .addDefaultSources()
+                .withSources(config("profiled.after.build", "main"))
+                .withInterceptors(new ProfileConfigSourceInterceptor("prof"))
+                .build();
+
+        assertEquals("main", config.getRawValue("profiled.after.build"));
+        try {
+            System.setProperty("%prof.profiled.after.build", "sys");
+            assertEquals("sys", config.getRawValue("profiled.after.build"));
+            assertEquals("prof", config.getConfigValue("profiled.after.build").getProfile());
+        } finally {
+            System.clearProperty("%prof.profiled.after.build");
+        }
+    }
+
     private static SmallRyeConfig buildConfig(String... keyValues) {
         return new SmallRyeConfigBuilder()
                 .withSources(config(keyValues))
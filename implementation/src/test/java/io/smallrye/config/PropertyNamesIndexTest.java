@@ -0,0 +1,51 @@
+package io.smallrye.config;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class PropertyNamesIndexTest {
+    @Test
+    void children() {
+        PropertyNamesIndex index = new PropertyNamesIndex(new HashSet<>(asList(
+                "my.map.one", "my.map.two", "my.map.nested.three", "my.map", "my.mapping.four", "my.map[0]")));
+
+        assertEquals(new HashSet<>(asList("my.map.one", "my.map.two")), new HashSet<>(index.getChildren("my.map")));
+        assertEquals(asList("my.map.nested.three"), index.getChildren("my.map.nested"));
+        assertEquals(new HashSet<>(asList("my.map", "my.map[0]")), new HashSet<>(index.getChildren("my")));
+        assertTrue(index.getChildren("my.map.one").isEmpty());
+        assertTrue(index.getChildren("other").isEmpty());
+    }
+
+    @Test
+    void indexes() {
+        PropertyNamesIndex index = new PropertyNamesIndex(new HashSet<>(asList(
+                "my.list[2]", "my.list[0]", "my.list[10].name", "my.list[1][3]", "my.list[x]", "my.list[4",
+                "my.lists[5]", "my.list[1].nested[7]")));
+
+        List<Integer> indexes = index.getIndexes("my.list");
+        assertEquals(asList(0, 1, 2, 10), indexes);
+        assertEquals(asList(3), index.getIndexes("my.list[1]"));
+        assertEquals(asList(7), index.getIndexes("my.list[1].nested"));
+        assertEquals(asList(5), index.getIndexes("my.lists"));
+        assertTrue(index.getIndexes("my").isEmpty());
+    }
+
+    @Test
+    void config() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(KeyValuesConfigSource.config("my.map.one", "1", "my.map.two", "2", "my.map.nested.three", "3",
+                        "my.list[1]", "b", "my.list[0]", "a"))
+                .build();
+
+        assertEquals(2, config.getValuesAsMap("my.map", Converters.STRING_CONVERTER, Converters.STRING_CONVERTER).size());
+        assertEquals("1", config.getValues("my.map.", String.class, String.class).get("one"));
+        assertEquals(asList(0, 1), config.getIndexedPropertiesIndexes("my.list"));
+        assertEquals(asList("my.list[0]", "my.list[1]"), config.getIndexedProperties("my.list"));
+    }
+}
@@ -7,20 +7,26 @@ import static java.util.stream.StreamSupport.stream;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
 
 import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.spi.Converter;
 import org.junit.jupiter.api.Test;
 
 import io.smallrye.config.common.AbstractConfigSource;
@@ -78,6 +84,112 @@ class SmallRyeConfigTest {
         assertNull(config.convert(null, Integer.class));
     }
 
+    @Test
+    void primitives() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("int", " 8080 ", "long", "10000000000", "double", "0.5", "boolean", "yes", "empty", "",
+                        "invalid", "x"))
+                .build();
+
+        assertEquals(8080, config.getInt("int"));
+        assertEquals(10000000000L, config.getLong("long"));
+        assertEquals(0.5, config.getDouble("double"));
+        assertTrue(config.getBoolean("boolean"));
+
+        assertEquals(1, config.getInt("missing", 1));
+        assertEquals(1, config.getInt("empty", 1));
+        assertEquals(2L, config.getLong("missing", 2L));
+        assertEquals(1.5, config.getDouble("missing", 1.5));
+        assertTrue(config.getBoolean("missing", true));
+        assertEquals(8080, config.getInt("int", 1));
+
+        assertThrows(NoSuchElementException.class, () -> config.getInt("missing"));
+        assertThrows(NoSuchElementException.class, () -> config.getLong("empty"));
+        assertThrows(IllegalArgumentException.class, () -> config.getInt("invalid"));
+        assertThrows(IllegalArgumentException.class, () -> config.getDouble("invalid", 1.5));
+        assertFalse(config.getBoolean("invalid"));
+    }
+
+    @Test
+    void primitivesCustomConverter() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("int", "0x10"))
+                .withConverter(Integer.class, 100, value -> Integer.decode(value))
+                .build();
+
+        assertEquals(16, config.getInt("int"));
+        assertEquals(16, config.getInt("int", 1));
+        assertEquals(1, config.getInt("missing", 1));
+    }
+
+    @Test
+    void primitivesCustomConverterNull() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("int", "none", "long", "none", "double", "none", "boolean", "none"))
+                .withConverter(Integer.class, 100, value -> null)
+                .withConverter(Long.class, 100, value -> null)
+                .withConverter(Double.class, 100, value -> null)
+                .withConverter(Boolean.class, 100, value -> null)
+                .build();
+
+        assertThrows(NoSuchElementException.class, () -> config.getInt("int"));
+        assertThrows(NoSuchElementException.class, () -> config.getLong("long"));
+        assertThrows(NoSuchElementException.class, () -> config.getDouble("double"));
+        assertThrows(NoSuchElementException.class, () -> config.getBoolean("boolean"));
+        assertEquals(1, config.getInt("int", 1));
+        assertEquals(2L, config.getLong("long", 2L));
+        assertEquals(1.5, config.getDouble("double", 1.5));
+        assertTrue(config.getBoolean("boolean", true));
+    }
+
+    @Test
+    void composedConverters() throws Exception {
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(config("list", "1,2,1", "map", "a=1;b=2", "list.indexed[0]", "1", "list.indexed[1]", "2"))
+                .build();
+
+        Type list = Composed.class.getDeclaredField("list").getGenericType();
+        Converter<List<Integer>> listConverter = config.<List<Integer>> getConverter(list).get();
+        assertSame(listConverter, config.getConverter(list).get());
+        assertEquals(Arrays.asList(1, 2, 1), config.getValue("list", listConverter));
+
+        Type set = Composed.class.getDeclaredField("set").getGenericType();
+        assertEquals(new HashSet<>(Arrays.asList(1, 2)),
+                config.getValue("list", config.<Set<Integer>> getConverter(set).get()));
+
+        Type optional = Composed.class.getDeclaredField("optional").getGenericType();
+        assertEquals(Optional.of(Arrays.asList(1, 2, 1)),
+                config.getValue("list", config.<Optional<List<Integer>>> getConverter(optional).get()));
+        assertEquals(Optional.empty(),
+                config.getValue("missing", config.<Optional<List<Integer>>> getConverter(optional).get()));
+
+        Type map = Composed.class.getDeclaredField("map").getGenericType();
+        assertEquals(2, config.getValue("map", config.<Map<String, Integer>> getConverter(map).get()).get("b"));
+
+        Type array = Composed.class.getDeclaredField("array").getGenericType();
+        List<Integer>[] lists = config.getValue("list", config.<List<Integer>[]> getConverter(array).get());
+        assertEquals(3, lists.length);
+        assertEquals(singletonList(2), lists[1]);
+
+        assertSame(config.requireConverter(Integer[].class), config.requireConverter(Integer[].class));
+        assertFalse(config.getConverter(Composed.class.getDeclaredField("wildcard").getGenericType()).isPresent());
+
+        assertEquals(Arrays.asList(1, 2, 1), config.getValues("list", Integer.class));
+        assertEquals(Arrays.asList(1, 2), config.getValues("list.indexed", Integer.class));
+        assertEquals(Optional.of(Arrays.asList(1, 2)), config.getOptionalValues("list.indexed", Integer.class));
+        assertEquals(Optional.empty(), config.getOptionalValues("missing", Integer.class));
+    }
+
+    @SuppressWarnings("unused")
+    static class Composed {
+        List<Integer> list;
+        Set<Integer> set;
+        Optional<List<Integer>> optional;
+        Map<String, Integer> map;
+        List<Integer>[] array;
+        List<?> wildcard;
+    }
+
     @Test
     void configValue() {
         SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(config("my.prop", "1234")).build();
@@ -286,6 +398,110 @@ class SmallRyeConfigTest {
         assertFalse(((Set<String>) config.getPropertyNames()).contains("smallrye.mp.config.prop"));
     }
 
+    @Test
+    void getPropertyNamesEnv() {
+        Map<String, String> env = new HashMap<>();
+        env.put("FOO_BAR", "1");
+        env.put("foo_bar", "2");
+        env.put("MY_ENV", "3");
+        env.put("My_Mixed_Case", "4");
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(new EnvConfigSource(env, 300))
+                .withSources(config("foo-bar", "0", "my.mixed-case", "0"))
+                .build();
+
+        Set<String> names = (Set<String>) config.getPropertyNames();
+        assertTrue(names.contains("foo-bar"));
+        assertFalse(names.contains("foo.bar"));
+        assertTrue(names.contains("my.env"));
+        assertTrue(names.contains("my.mixed-case"));
+        assertFalse(names.contains("my.mixed.case"));
+    }
+
+    @Test
+    void getPropertyNamesCached() {
+        SmallRyeConfig config = new SmallRyeConfigBuilder().addDefaultInterceptors()
+                .withSources(config("my.prop", "1234", "%dev.my.profile", "5678"))
+                .withProfile("dev")
+                .build();
+
+        assertSame(config.getPropertyNames(), config.getPropertyNames());
+        assertTrue(((Set<String>) config.getPropertyNames()).contains("my.prop"));
+        assertTrue(((Set<String>) config.getPropertyNames()).contains("my.profile"));
+        assertThrows(UnsupportedOperationException.class, () -> ((Set<String>) config.getPropertyNames()).add("other"));
+    }
+
+    @Test
+    void getPropertyNamesMutable() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("my.prop", "1234");
+        SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(new MutableKeyValuesConfigSource(properties)).build();
+
+        Iterable<String> names = config.getPropertyNames();
+        assertSame(names, config.getPropertyNames());
+        assertTrue(((Set<String>) names).contains("my.prop"));
+
+        properties.put("my.other", "5678");
+        assertNotSame(names, config.getPropertyNames());
+        assertTrue(((Set<String>) config.getPropertyNames()).contains("my.other"));
+        assertSame(config.getPropertyNames(), config.getPropertyNames());
+    }
+
+    @Test
+    void getPropertyNamesUnversioned() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("my.prop", "1234");
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(new UnversionedKeyValuesConfigSource(properties))
+                .build();
+
+        // without a version, the names are computed again on every lookup
+        Iterable<String> names = config.getPropertyNames();
+        assertNotSame(names, config.getPropertyNames());
+
+        properties.remove("my.prop");
+        properties.put("my.other", "5678");
+        assertFalse(((Set<String>) config.getPropertyNames()).contains("my.prop"));
+        assertTrue(((Set<String>) config.getPropertyNames()).contains("my.other"));
+    }
+
+    @Test
+    void getPropertyNamesSysPropRemovedAndAdded() {
+        System.setProperty("my.sys.removed", "1234");
+        try {
+            SmallRyeConfig config = new SmallRyeConfigBuilder().addDefaultSources().build();
+            assertTrue(((Set<String>) config.getPropertyNames()).contains("my.sys.removed"));
+
+            // same number of properties, different names
+            System.clearProperty("my.sys.removed");
+            System.setProperty("my.sys.added", "5678");
+            assertFalse(((Set<String>) config.getPropertyNames()).contains("my.sys.removed"));
+            assertTrue(((Set<String>) config.getPropertyNames()).contains("my.sys.added"));
+        } finally {
+            System.clearProperty("my.sys.removed");
+            System.clearProperty("my.sys.added");
+        }
+    }
+
+    @Test
+    void refreshPropertyNames() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("my.prop", "1234");
+        SmallRyeConfig config = new SmallRyeConfigBuilder()
+                .withSources(new MapBackedConfigSource("KeyValuesConfigSource", properties, false) {
+                })
+                .build();
+
+        Iterable<String> names = config.getPropertyNames();
+        properties.put("my.other", "5678");
+        // names of a source that is not mutable are only computed again when asked to
+        assertSame(names, config.getPropertyNames());
+        assertFalse(((Set<String>) config.getPropertyNames()).contains("my.other"));
+
+        config.refreshPropertyNames();
+        assertTrue(((Set<String>) config.getPropertyNames()).contains("my.other"));
+    }
+
     @Test
     void getConfigSource() {
         SmallRyeConfig config = new SmallRyeConfigBuilder().withSources(KeyValuesConfigSource.config()).build();
@@ -315,4 +531,21 @@ class SmallRyeConfigTest {
                 .build();
         assertEquals("1234", config.getRawValue("my.prop"));
     }
+
+    static class MutableKeyValuesConfigSource extends MapBackedConfigSource implements MutableConfigSource {
+        MutableKeyValuesConfigSource(final Map<String, String> properties) {
+            super("MutableKeyValuesConfigSource", properties, false);
+        }
+
+        @Override
+        public long getPropertyNamesVersion() {
+            return getProperties().size();
+        }
+    }
+
+    static class UnversionedKeyValuesConfigSource extends MapBackedConfigSource implements MutableConfigSource {
+        UnversionedKeyValuesConfigSource(final Map<String, String> properties) {
+            super("UnversionedKeyValuesConfigSource", properties, false);
+        }
+    }
 }
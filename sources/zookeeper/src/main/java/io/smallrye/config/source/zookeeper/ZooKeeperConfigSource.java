@@ -7,6 +7,7 @@ import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.retry.ExponentialBackoffRetry;
 import org.apache.zookeeper.data.Stat;
 
+import io.smallrye.config.MutableConfigSource;
 import io.smallrye.config.common.AbstractConfigSource;
 
 /**
@@ -17,7 +18,7 @@ import io.smallrye.config.common.AbstractConfigSource;
  * <p>
  * author: Simon Woodman swoodman@redhat.com
  */
-public class ZooKeeperConfigSource extends AbstractConfigSource {
+public class ZooKeeperConfigSource extends AbstractConfigSource implements MutableConfigSource {
     private static final long serialVersionUID = 3127679154588598693L;
 
     //Property the URL of the Zookeeper instance will be read from
@@ -63,6 +64,20 @@ public class ZooKeeperConfigSource extends AbstractConfigSource {
         return propertyNames;
     }
 
+    /**
+     * The child version of the application znode, which changes when a property is added or removed. It only reads
+     * the node stat, not the children.
+     */
+    @Override
+    public long getPropertyNamesVersion() {
+        try {
+            final Stat stat = curator.checkExists().forPath(applicationId);
+            return stat != null ? stat.getCversion() : 0;
+        } catch (Exception e) {
+            return UNKNOWN_VERSION;
+        }
+    }
+
     @Override
     public Map<String, String> getProperties() {
 